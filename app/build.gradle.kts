@@ -1,5 +1,16 @@
+import org.gradle.api.DefaultTask
+import org.gradle.api.GradleException
+import org.gradle.api.file.DirectoryProperty
+import org.gradle.api.file.RegularFileProperty
+import org.gradle.api.tasks.InputFile
+import org.gradle.api.tasks.OutputDirectory
+import org.gradle.api.tasks.PathSensitive
+import org.gradle.api.tasks.PathSensitivity
+import org.gradle.api.tasks.TaskAction
+
 plugins {
     alias(libs.plugins.android.application)
+    alias(libs.plugins.baselineprofile)
 }
 
 android {
@@ -14,6 +25,11 @@ android {
         versionName = "1.0"
 
         testInstrumentationRunner = "androidx.test.runner.AndroidJUnitRunner"
+
+        // 아이콘 매니페스트 주소 재지정 허용 여부 (벤치마크 빌드 전용)
+        buildConfigField("boolean", "ALLOW_ENDPOINT_OVERRIDE", "false")
+        // 광고 시작 모드(지연/즉시) 재지정 허용 여부 (벤치마크 빌드 전용)
+        buildConfigField("boolean", "ALLOW_AD_STARTUP_OVERRIDE", "false")
     }
 
     buildTypes {
@@ -24,6 +40,17 @@ android {
                 "proguard-rules.pro"
             )
         }
+        // :benchmark 모듈 측정용 - release와 동일하되 로컬 대체 서버 주소/광고 시작 모드를 받을 수 있음
+        create("benchmark") {
+            initWith(getByName("release"))
+            signingConfig = signingConfigs.getByName("debug")
+            matchingFallbacks += listOf("release")
+            buildConfigField("boolean", "ALLOW_ENDPOINT_OVERRIDE", "true")
+            buildConfigField("boolean", "ALLOW_AD_STARTUP_OVERRIDE", "true")
+        }
+    }
+    buildFeatures {
+        buildConfig = true
     }
     compileOptions {
         sourceCompatibility = JavaVersion.VERSION_11
@@ -37,7 +64,11 @@ dependencies {
     implementation(libs.material)
     implementation(libs.activity)
     implementation(libs.constraintlayout)
+    implementation(libs.profileinstaller)
+    baselineProfile(project(":baselineprofile"))
     testImplementation(libs.junit)
+    // android.util.JsonReader, SparseIntArray 등 순수 Java 프레임워크 클래스 실제 구현 (mockable android.jar보다 앞에 위치)
+    testImplementation(libs.android.all)
     androidTestImplementation(libs.ext.junit)
     androidTestImplementation(libs.espresso.core)
 
@@ -45,8 +76,125 @@ dependencies {
     implementation("androidx.coordinatorlayout:coordinatorlayout:1.2.0")
 
     implementation("com.github.bumptech.glide:glide:4.16.0")
+    implementation("com.github.bumptech.glide:okhttp3-integration:4.16.0")
+    annotationProcessor("com.github.bumptech.glide:compiler:4.16.0")
     implementation("com.squareup.okhttp3:okhttp:4.12.0")
 
     implementation("com.google.android.gms:play-services-ads:22.6.0")
 
-}
\ No newline at end of file
+    implementation("androidx.work:work-runtime:2.9.1")
+
+}
+
+// 메뉴 카탈로그: src/main/catalog/menu_catalog.csv → MenuCatalogTable.java (생성 소스)
+val generateMenuCatalog = tasks.register<GenerateMenuCatalogTask>("generateMenuCatalog") {
+    catalogFile.set(layout.projectDirectory.file("src/main/catalog/menu_catalog.csv"))
+}
+
+androidComponents {
+    onVariants { variant ->
+        variant.sources.java?.addGeneratedSourceDirectory(
+            generateMenuCatalog, GenerateMenuCatalogTask::outputDir
+        )
+    }
+}
+
+/**
+ * CSV 메뉴 카탈로그를 압축된 정적 테이블 클래스로 변환
+ * - 행/열을 구분 문자로 이어 붙인 문자열 상수 몇 개로만 구성 (항목 수와 무관하게 초기화 코드 크기 일정)
+ * - 상수 하나당 UTF-8 64KB 제한이 있어 일정 크기마다 청크로 분할
+ */
+abstract class GenerateMenuCatalogTask : DefaultTask() {
+
+    @get:InputFile
+    @get:PathSensitive(PathSensitivity.RELATIVE)
+    abstract val catalogFile: RegularFileProperty
+
+    @get:OutputDirectory
+    abstract val outputDir: DirectoryProperty
+
+    @TaskAction
+    fun generate() {
+        val lines = catalogFile.get().asFile.readLines(Charsets.UTF_8)
+            .map { it.trimEnd('\r') }
+            .filter { it.isNotBlank() && !it.startsWith("#") }
+        if (lines.isEmpty()) {
+            throw GradleException("menu_catalog.csv: header row is missing")
+        }
+
+        val header = lines.first().split(",").map { it.trim() }
+        val rows = lines.drop(1).mapIndexed { index, line ->
+            val cols = line.split(",")
+            if (cols.size != header.size) {
+                throw GradleException(
+                    "menu_catalog.csv row ${index + 1}: expected ${header.size} columns, got ${cols.size}"
+                )
+            }
+            cols.joinToString(FIELD_SEPARATOR)
+        }
+
+        // 청크 분할 (UTF-8 기준 상수 크기 제한 이하)
+        val chunks = mutableListOf<String>()
+        val current = StringBuilder()
+        var currentBytes = 0
+        for (row in rows) {
+            val rowBytes = row.toByteArray(Charsets.UTF_8).size
+            if (current.isNotEmpty() && currentBytes + rowBytes + 1 > MAX_CHUNK_BYTES) {
+                chunks.add(current.toString())
+                current.setLength(0)
+                currentBytes = 0
+            }
+            if (current.isNotEmpty()) {
+                current.append(ROW_SEPARATOR)
+                currentBytes++
+            }
+            current.append(row)
+            currentBytes += rowBytes
+        }
+        if (current.isNotEmpty()) {
+            chunks.add(current.toString())
+        }
+
+        val source = buildString {
+            appendLine("// 자동 생성 파일 - 직접 수정하지 말 것 (원본: src/main/catalog/menu_catalog.csv)")
+            appendLine("package com.boolint.photogallery;")
+            appendLine()
+            appendLine("final class MenuCatalogTable {")
+            appendLine("    static final int ROW_COUNT = ${rows.size};")
+            appendLine("    static final String[] COLUMNS = {")
+            header.forEach { appendLine("            \"${javaEscape(it)}\",") }
+            appendLine("    };")
+            appendLine("    static final String[] CHUNKS = {")
+            chunks.forEach { appendLine("            \"${javaEscape(it)}\",") }
+            appendLine("    };")
+            appendLine()
+            appendLine("    private MenuCatalogTable() {")
+            appendLine("    }")
+            appendLine("}")
+        }
+
+        val outFile = outputDir.get().asFile.resolve("com/boolint/photogallery/MenuCatalogTable.java")
+        outFile.parentFile.mkdirs()
+        outFile.writeText(source, Charsets.UTF_8)
+    }
+
+    private fun javaEscape(value: String): String = buildString {
+        for (c in value) {
+            when {
+                c == '\\' -> append("\\\\")
+                c == '"' -> append("\\\"")
+                // 제어 문자는 8진 이스케이프 (유니코드 이스케이프는 컴파일 전에 치환되어 개행 문자가 깨짐)
+                c.code < 0x20 -> append(String.format("\\%03o", c.code))
+                c.code > 0x7e -> append(String.format("\\u%04x", c.code))
+                else -> append(c)
+            }
+        }
+    }
+
+    private companion object {
+        // MenuCatalogLoader.FIELD_SEPARATOR / ROW_SEPARATOR와 동일해야 함
+        const val FIELD_SEPARATOR = "\u001f"
+        const val ROW_SEPARATOR = "\u001e"
+        const val MAX_CHUNK_BYTES = 60_000
+    }
+}
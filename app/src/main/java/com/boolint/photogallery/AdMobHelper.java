@@ -5,7 +5,7 @@ import android.content.res.Configuration;
 import android.util.DisplayMetrics;
 import android.util.Log;
 import android.view.Display;
-import android.view.ViewTreeObserver;
+import android.view.View;
 import android.widget.FrameLayout;
 
 import androidx.coordinatorlayout.widget.CoordinatorLayout;
@@ -27,6 +27,8 @@ import com.google.android.gms.ads.MobileAds;
  * - 광고 크기 자동 계산
  * - RecyclerView 패딩 자동 조정
  * - 라이프사이클 관리
+ * 배너는 화면 회전 후에도 유지하고 적응형 크기가 실제로 바뀔 때만 다시 만듦
+ * 광고 컨테이너 레이아웃 감지 리스너는 하나만 등록하고 패딩 계산은 프레임당 한 번으로 제한
  */
 public class AdMobHelper {
     private static final String TAG = "AdMobHelper";
@@ -37,9 +39,27 @@ public class AdMobHelper {
     private final Activity activity;
     private final FrameLayout adContainerView;
     private final RecyclerView recyclerView;
-    private final ResponsiveLayoutHelper layoutHelper;
+    private ResponsiveLayoutHelper layoutHelper;
 
     private AdView adView;
+    private AdSize adSize; // 현재 배너 크기 (AdView의 크기는 한 번만 지정 가능)
+    private boolean adLoaded = false;
+    private boolean bannerReleased = false; // 메모리 부족으로 배너를 해제한 상태
+
+    // 광고 컨테이너 크기 변경 감지 (생성 시 한 번 등록, onDestroy에서 해제)
+    private final View.OnLayoutChangeListener adContainerLayoutListener =
+            (v, left, top, right, bottom, oldLeft, oldTop, oldRight, oldBottom) -> {
+                if (bottom - top != oldBottom - oldTop || right - left != oldRight - oldLeft) {
+                    schedulePaddingUpdate();
+                }
+            };
+
+    // 다음 프레임에 한 번만 패딩 계산
+    private boolean paddingUpdatePending = false;
+    private final Runnable paddingUpdate = () -> {
+        paddingUpdatePending = false;
+        updateRecyclerViewPadding();
+    };
 
     /**
      * AdMobHelper 생성자
@@ -57,6 +77,7 @@ public class AdMobHelper {
         this.adContainerView = adContainerView;
         this.recyclerView = recyclerView;
         this.layoutHelper = layoutHelper;
+        adContainerView.addOnLayoutChangeListener(adContainerLayoutListener);
     }
 
     /**
@@ -79,7 +100,8 @@ public class AdMobHelper {
         }
 
         // 광고 크기 계산 및 AdView 생성
-        AdSize adSize = calculateAdSize();
+        adSize = calculateAdSize();
+        adLoaded = false;
         adView = new AdView(activity);
         adView.setAdUnitId(AD_UNIT_ID);
         adView.setAdSize(adSize);
@@ -90,8 +112,9 @@ public class AdMobHelper {
             public void onAdLoaded() {
                 super.onAdLoaded();
                 Log.d(TAG, "Ad loaded successfully");
+                adLoaded = true;
                 // 광고 로드 완료 후 RecyclerView 패딩 조정
-                adContainerView.postDelayed(() -> updateRecyclerViewPadding(), 100);
+                schedulePaddingUpdate();
             }
 
             @Override
@@ -110,17 +133,6 @@ public class AdMobHelper {
         // 광고 컨테이너 마진 설정
         adContainerView.post(this::ensureAdContainerMargins);
 
-        // 광고 컨테이너 레이아웃 변경 감지
-        adContainerView.getViewTreeObserver().addOnGlobalLayoutListener(
-                new ViewTreeObserver.OnGlobalLayoutListener() {
-                    @Override
-                    public void onGlobalLayout() {
-                        if (adContainerView.getHeight() > 0) {
-                            updateRecyclerViewPadding();
-                        }
-                    }
-                });
-
         // 광고 요청
         AdRequest adRequest = new AdRequest.Builder().build();
         adView.loadAd(adRequest);
@@ -162,10 +174,12 @@ public class AdMobHelper {
      * 광고 컨테이너의 마진을 시스템바에 맞게 설정
      */
     private void ensureAdContainerMargins() {
-        Insets systemBars = ViewCompat.getRootWindowInsets(adContainerView)
-                .getInsets(WindowInsetsCompat.Type.systemBars());
-        Insets displayCutout = ViewCompat.getRootWindowInsets(adContainerView)
-                .getInsets(WindowInsetsCompat.Type.displayCutout());
+        WindowInsetsCompat insets = ViewCompat.getRootWindowInsets(adContainerView);
+        if (insets == null) {
+            return; // 아직 윈도우에 붙지 않음
+        }
+        Insets systemBars = insets.getInsets(WindowInsetsCompat.Type.systemBars());
+        Insets displayCutout = insets.getInsets(WindowInsetsCompat.Type.displayCutout());
 
         int leftInset = Math.max(systemBars.left, displayCutout.left);
         int rightInset = Math.max(systemBars.right, displayCutout.right);
@@ -192,57 +206,54 @@ public class AdMobHelper {
                 params.leftMargin, params.rightMargin, params.bottomMargin));
     }
 
+    /**
+     * 다음 프레임에 패딩 갱신 예약 (같은 프레임 안의 여러 요청은 한 번으로 합침)
+     */
+    private void schedulePaddingUpdate() {
+        if (paddingUpdatePending) {
+            return;
+        }
+        paddingUpdatePending = true;
+        adContainerView.postOnAnimation(paddingUpdate);
+    }
+
     /**
      * 광고 높이에 맞춰 RecyclerView 패딩 동적 조정
      */
     private void updateRecyclerViewPadding() {
-        adContainerView.post(() -> {
-            int adHeight = adContainerView.getHeight();
-            if (adHeight > 0) {
-                float density = activity.getResources().getDisplayMetrics().density;
+        int adHeight = adContainerView.getHeight();
+        if (adHeight > 0) {
+            float density = activity.getResources().getDisplayMetrics().density;
 
-                // 광고 높이 + 추가 여유 공간
-                int basicExtraPadding = (int) (24 * density);
+            // 광고 높이 + 추가 여유 공간
+            int basicExtraPadding = (int) (24 * density);
 
-                // 아이템의 대략적인 높이 계산
-                DisplayMetrics displayMetrics = activity.getResources().getDisplayMetrics();
-                int screenWidth = displayMetrics.widthPixels;
-                int columns = layoutHelper.getGridColumns();
-                int itemWidth = screenWidth / columns;
-                int itemHeight = (int) (itemWidth * 1.3);
+            // 아이템의 대략적인 높이 계산
+            DisplayMetrics displayMetrics = activity.getResources().getDisplayMetrics();
+            int screenWidth = displayMetrics.widthPixels;
+            int columns = layoutHelper.getGridColumns();
+            int itemWidth = screenWidth / columns;
+            int itemHeight = (int) (itemWidth * 1.3);
 
-                // 전체 패딩 = 광고 높이 + 기본 여유 + 아이템 높이의 1/4
-                int totalPadding = adHeight + basicExtraPadding + (itemHeight / 4);
+            // 전체 패딩 = 광고 높이 + 기본 여유 + 아이템 높이의 1/4
+            int totalPadding = adHeight + basicExtraPadding + (itemHeight / 4);
 
-                boolean isLandscape = activity.getResources().getConfiguration().orientation
-                        == Configuration.ORIENTATION_LANDSCAPE;
+            boolean isLandscape = activity.getResources().getConfiguration().orientation
+                    == Configuration.ORIENTATION_LANDSCAPE;
 
-                Insets systemBars = ViewCompat.getRootWindowInsets(recyclerView)
-                        .getInsets(WindowInsetsCompat.Type.systemBars());
-                Insets displayCutout = ViewCompat.getRootWindowInsets(recyclerView)
-                        .getInsets(WindowInsetsCompat.Type.displayCutout());
-
-                int leftInset = Math.max(systemBars.left, displayCutout.left);
-                int rightInset = Math.max(systemBars.right, displayCutout.right);
-
-                if (isLandscape) {
-                    recyclerView.setPadding(leftInset, 0, rightInset, totalPadding);
-                } else {
-                    recyclerView.setPadding(0, 0, 0, totalPadding);
-                }
+            applyRecyclerViewPadding(isLandscape, totalPadding);
 
-                Log.d(TAG, String.format("RecyclerView padding updated: adHeight=%d, itemHeight=%d, totalPadding=%d",
-                        adHeight, itemHeight, totalPadding));
-            } else {
-                setDefaultRecyclerViewPadding();
-            }
-        });
+            Log.d(TAG, String.format("RecyclerView padding updated: adHeight=%d, itemHeight=%d, totalPadding=%d",
+                    adHeight, itemHeight, totalPadding));
+        } else {
+            setDefaultRecyclerViewPadding();
+        }
     }
 
     /**
-     * 기본 RecyclerView 패딩 설정 (광고가 없거나 로드 실패 시)
+     * 기본 RecyclerView 패딩 설정 (광고가 없거나 로드 실패 시, 광고 로드 전 자리 확보)
      */
-    private void setDefaultRecyclerViewPadding() {
+    public void setDefaultRecyclerViewPadding() {
         float density = activity.getResources().getDisplayMetrics().density;
 
         // 아이템의 대략적인 높이 계산
@@ -260,21 +271,32 @@ public class AdMobHelper {
         boolean isLandscape = activity.getResources().getConfiguration().orientation
                 == Configuration.ORIENTATION_LANDSCAPE;
 
-        Insets systemBars = ViewCompat.getRootWindowInsets(recyclerView)
-                .getInsets(WindowInsetsCompat.Type.systemBars());
-        Insets displayCutout = ViewCompat.getRootWindowInsets(recyclerView)
-                .getInsets(WindowInsetsCompat.Type.displayCutout());
+        applyRecyclerViewPadding(isLandscape, defaultPadding);
 
-        int leftInset = Math.max(systemBars.left, displayCutout.left);
-        int rightInset = Math.max(systemBars.right, displayCutout.right);
+        Log.d(TAG, "RecyclerView default padding set: " + defaultPadding);
+    }
 
-        if (isLandscape) {
-            recyclerView.setPadding(leftInset, 0, rightInset, defaultPadding);
-        } else {
-            recyclerView.setPadding(0, 0, 0, defaultPadding);
+    /**
+     * 하단 패딩 적용 (가로모드는 좌우 시스템바/컷아웃만큼 추가)
+     * 값이 같으면 RecyclerView가 다시 레이아웃하지 않음
+     */
+    private void applyRecyclerViewPadding(boolean isLandscape, int bottomPadding) {
+        int leftInset = 0;
+        int rightInset = 0;
+        WindowInsetsCompat insets = ViewCompat.getRootWindowInsets(recyclerView);
+        if (isLandscape && insets != null) {
+            Insets systemBars = insets.getInsets(WindowInsetsCompat.Type.systemBars());
+            Insets displayCutout = insets.getInsets(WindowInsetsCompat.Type.displayCutout());
+            leftInset = Math.max(systemBars.left, displayCutout.left);
+            rightInset = Math.max(systemBars.right, displayCutout.right);
         }
 
-        Log.d(TAG, "RecyclerView default padding set: " + defaultPadding);
+        if (recyclerView.getPaddingLeft() != leftInset
+                || recyclerView.getPaddingTop() != 0
+                || recyclerView.getPaddingRight() != rightInset
+                || recyclerView.getPaddingBottom() != bottomPadding) {
+            recyclerView.setPadding(leftInset, 0, rightInset, bottomPadding);
+        }
     }
 
     /**
@@ -299,6 +321,9 @@ public class AdMobHelper {
      * Activity의 onDestroy()에서 호출
      */
     public void onDestroy() {
+        adContainerView.removeOnLayoutChangeListener(adContainerLayoutListener);
+        adContainerView.removeCallbacks(paddingUpdate);
+        paddingUpdatePending = false;
         if (adView != null) {
             adView.destroy();
             adView = null;
@@ -306,10 +331,60 @@ public class AdMobHelper {
     }
 
     /**
-     * Configuration 변경 시 광고 재로드
+     * 메모리 부족 시 배너 해제 (자리는 기본 패딩으로 유지해 복원 시 그리드가 밀리지 않음)
+     */
+    public void releaseBanner() {
+        if (adView == null) {
+            return;
+        }
+        adContainerView.removeAllViews();
+        adView.destroy();
+        adView = null;
+        adLoaded = false;
+        bannerReleased = true;
+        setDefaultRecyclerViewPadding();
+        Log.d(TAG, "Banner released for memory pressure");
+    }
+
+    /**
+     * releaseBanner로 해제한 배너를 다시 로드
+     */
+    public void restoreBanner() {
+        if (bannerReleased) {
+            bannerReleased = false;
+            loadBannerAd();
+        }
+    }
+
+    /**
+     * Configuration 변경 시 호출
+     * - 기존 배너를 유지하고 마진/패딩만 갱신
+     * - 적응형 배너 크기가 실제로 바뀐 경우에만 새 AdView로 다시 로드
+     *
+     * @param layoutHelper 새 화면 기준 레이아웃 헬퍼 (패딩 계산용 컬럼 수)
      */
-    public void onConfigurationChanged() {
-        recyclerView.post(this::loadBannerAd);
+    public void onConfigurationChanged(ResponsiveLayoutHelper layoutHelper) {
+        this.layoutHelper = layoutHelper;
+        recyclerView.post(() -> {
+            ensureAdContainerMargins();
+            if (adView == null) {
+                return; // 아직 광고를 로드하지 않음
+            }
+
+            AdSize newSize = calculateAdSize();
+            if (newSize.equals(adSize)) {
+                Log.d(TAG, "Ad size unchanged, keeping banner: " + adSize);
+                if (adLoaded) {
+                    schedulePaddingUpdate();
+                } else {
+                    setDefaultRecyclerViewPadding();
+                }
+                return;
+            }
+
+            Log.d(TAG, "Ad size changed: " + adSize + " -> " + newSize);
+            loadBannerAd();
+        });
     }
 
     /**
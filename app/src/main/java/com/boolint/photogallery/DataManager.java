@@ -1,23 +1,37 @@
 package com.boolint.photogallery;
 
 import android.content.Context;
-import java.util.ArrayList;
+import android.util.Log;
+
+import androidx.annotation.VisibleForTesting;
+
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 싱글톤 패턴으로 앱 전체 데이터 관리
  * MenuItem 기반 메뉴 데이터 관리
  */
 public class DataManager {
+    private static final String TAG = "DataManager";
 
     private static volatile DataManager instance;
 
-    private List<MenuItem> menuList;
+    // 메뉴 목록 불변 스냅샷 (변경 시 새 스냅샷을 CAS로 교체 - 읽기/쓰기 모두 잠금 없음)
+    private final AtomicReference<MenuCatalog> catalog = new AtomicReference<>(MenuCatalog.EMPTY);
     private String currentSearchQuery = "";
+    private volatile MenuFacetQuery facetQuery = MenuFacetQuery.EMPTY; // 속성 필터 선택 상태
+    private volatile MenuFacetIndex facetIndex; // 현재 스냅샷의 속성 비트셋 색인 (지연 생성)
     private int currentScrollPosition = 0;
+    private boolean isSectionedGrid = false; // 종류(kind)별 섹션 헤더 그리드
     private boolean isLoading = false;
     private boolean isDataInitialized = false;
     private boolean isIconUrlsLoaded = false; // 아이콘 URL 로드 완료 플래그
+    // 마지막으로 성공한 매니페스트 수신 시각 (디스크 캐시 포함, 백그라운드에서 쓰고 메인 스레드에서 읽음)
+    private volatile long iconUrlsFetchedAt = 0L;
 
     // 현재 선택된 메뉴 아이템
     private MenuItem selectedMenuItem = null;
@@ -27,9 +41,11 @@ public class DataManager {
     private String lastUpdateTime = "";
 
     private Context appContext;
+    private IconUrlStore iconUrlStore;
 
-    private DataManager() {
-        menuList = new ArrayList<>();
+    // 앱에서는 getInstance 사용 (테스트는 실행 순서와 무관하게 새 인스턴스 사용)
+    @VisibleForTesting
+    DataManager() {
     }
 
     public static DataManager getInstance() {
@@ -46,378 +62,166 @@ public class DataManager {
     public void initialize(Context context) {
         if (appContext == null && context != null) {
             appContext = context.getApplicationContext();
+            iconUrlStore = new IconUrlStore(appContext);
             initializeDefaultData();
+            applyStoredIconUrls();
+        }
+    }
+
+    /**
+     * 디스크에 저장된 마지막 아이콘 URL을 메뉴에 즉시 적용
+     * 네트워크 갱신(isIconUrlsLoaded)은 별도로 진행됨
+     */
+    private void applyStoredIconUrls() {
+        IconUrlStore.Snapshot snapshot = iconUrlStore.load();
+        if (snapshot == null) {
+            return;
+        }
+
+        applyIconUrls(snapshot.urls, snapshot.versions);
+        iconUrlsFetchedAt = snapshot.fetchedAt;
+        Log.d(TAG, "Stored icon urls applied: " + snapshot.urls.size() + ", fetchedAt: " + snapshot.fetchedAt);
+    }
+
+    /**
+     * apiOption별 아이콘 URL/버전을 적용한 새 스냅샷으로 교체 (어느 스레드에서나 호출 가능)
+     * 기존 스냅샷과 그 MenuItem은 수정하지 않으므로 바인딩 중인 UI 스레드와 경합 없음
+     *
+     * @return 교체된 최신 스냅샷
+     */
+    public MenuCatalog applyIconUrls(Map<String, String> urls, Map<String, String> versions) {
+        return catalog.updateAndGet(current -> current.withIcons(urls, versions));
+    }
+
+    /**
+     * 현재 메뉴의 아이콘 URL을 디스크에 저장 (백그라운드 스레드에서 호출)
+     * OkHttp 콜백과 ThumbnailCacheWorker가 동시에 호출할 수 있으므로 직렬화
+     * (나중에 저장하는 쪽이 항상 최신 스냅샷을 읽음)
+     */
+    public synchronized void saveIconUrls() {
+        if (iconUrlStore == null) {
+            return;
+        }
+
+        Map<String, String> urls = new HashMap<>();
+        Map<String, String> versions = new HashMap<>();
+        for (MenuItem vo : catalog.get().getItems()) {
+            if (vo.apiOption != null && !vo.apiOption.isEmpty()
+                    && vo.iconUrl != null && !vo.iconUrl.isEmpty()) {
+                urls.put(vo.apiOption, vo.iconUrl);
+                versions.put(vo.apiOption, vo.iconVersion);
+            }
+        }
+
+        long fetchedAt = System.currentTimeMillis();
+        if (iconUrlStore.save(new IconUrlStore.Snapshot(fetchedAt, urls, versions))) {
+            iconUrlsFetchedAt = fetchedAt;
         }
     }
 
     private void initializeDefaultData() {
         if (!isDataInitialized && appContext != null) {
-            menuList = generateDefaultMenuList(appContext);
+            catalog.set(new MenuCatalog(generateDefaultMenuList(appContext)));
             isDataInitialized = true;
         }
     }
 
     /**
      * MenuHelper.getMenu()를 참고한 기본 메뉴 목록 생성
+     * 메뉴 정의는 src/main/catalog/menu_catalog.csv에 있으며 빌드 시 MenuCatalogTable로 생성됨
      */
     private List<MenuItem> generateDefaultMenuList(Context context) {
-        List<MenuItem> list = new ArrayList<>();
-        MenuItem vo;
-
-        // k1 - 위성영상 한반도 RGB
-        vo = new MenuItem("SUB");
-        vo.id = "k1";
-        vo.title = "위성영상 한반도 RGB";
-        vo.kind = "satellite";
-        vo.data0 = "true+ir";
-        vo.area0 = "ko020lc";
-        vo.data1 = "rgbt";
-        vo.area1 = "ko";
-        vo.data2 = "vis_ko";
-        vo.area2 = "";
-        vo.apiOption = "vis_ko";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k2 - 위성영상 동아시아 RGB
-        vo = new MenuItem("SUB");
-        vo.id = "k2";
-        vo.title = "위성영상 동아시아 RGB";
-        vo.kind = "satellite";
-        vo.data0 = "true+ir";
-        vo.area0 = "ea020lc";
-        vo.data1 = "rgbt";
-        vo.area1 = "ea";
-        vo.data2 = "vis_ea";
-        vo.area2 = "";
-        vo.apiOption = "vis_ea";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k3 - 위성영상 전구 RGB
-        vo = new MenuItem("SUB");
-        vo.id = "k3";
-        vo.title = "위성영상 전구 RGB";
-        vo.kind = "satellite";
-        vo.data0 = "true+ir";
-        vo.area0 = "fd020ge";
-        vo.data1 = "rgbt";
-        vo.area1 = "fd";
-        vo.data2 = "vis_fd";
-        vo.area2 = "";
-        vo.apiOption = "vis_fd";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k4 - 적외영상 한반도
-        vo = new MenuItem("SUB");
-        vo.id = "k4";
-        vo.title = "적외영상 한반도";
-        vo.kind = "satellite";
-        vo.data0 = "ir105";
-        vo.area0 = "ko020lc";
-        vo.data1 = "ir105";
-        vo.area1 = "ko";
-        vo.data2 = "inf_ko";
-        vo.area2 = "";
-        vo.apiOption = "inf_ko";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k5 - 적외영상 동아시아
-        vo = new MenuItem("SUB");
-        vo.id = "k5";
-        vo.title = "적외영상 동아시아";
-        vo.kind = "satellite";
-        vo.data0 = "ir105";
-        vo.area0 = "ea020lc";
-        vo.data1 = "ir105";
-        vo.area1 = "ea";
-        vo.data2 = "inf_ea";
-        vo.area2 = "";
-        vo.apiOption = "inf_ea";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k6 - 적외영상 전구
-        vo = new MenuItem("SUB");
-        vo.id = "k6";
-        vo.title = "적외영상 전구";
-        vo.kind = "satellite";
-        vo.data0 = "ir105";
-        vo.area0 = "fd020ge";
-        vo.data1 = "ir105";
-        vo.area1 = "fd";
-        vo.data2 = "inf_fd";
-        vo.area2 = "";
-        vo.apiOption = "inf_fd";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k7 - 수증기영상 한반도
-        vo = new MenuItem("SUB");
-        vo.id = "k7";
-        vo.title = "수증기영상 한반도";
-        vo.kind = "satellite";
-        vo.data0 = "wv063";
-        vo.area0 = "ko020lc";
-        vo.data1 = "wv069";
-        vo.area1 = "ko";
-        vo.data2 = "wv_ko";
-        vo.area2 = "";
-        vo.apiOption = "wv_ko";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k8 - 수증기영상 동아시아
-        vo = new MenuItem("SUB");
-        vo.id = "k8";
-        vo.title = "수증기영상 동아시아";
-        vo.kind = "satellite";
-        vo.data0 = "wv063";
-        vo.area0 = "ea020lc";
-        vo.data1 = "wv069";
-        vo.area1 = "ea";
-        vo.data2 = "wv_ea";
-        vo.area2 = "";
-        vo.apiOption = "wv_ea";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k9 - 수증기영상 전구
-        vo = new MenuItem("SUB");
-        vo.id = "k9";
-        vo.title = "수증기영상 전구";
-        vo.kind = "satellite";
-        vo.data0 = "wv063";
-        vo.area0 = "fd020ge";
-        vo.data1 = "wv069";
-        vo.area1 = "fd";
-        vo.data2 = "wv_fd";
-        vo.area2 = "";
-        vo.apiOption = "wv_fd";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k10 - 레이더영상 전국합성
-        vo = new MenuItem("SUB");
-        vo.id = "k10";
-        vo.title = "레이더영상 전국합성";
-        vo.kind = "radar";
-        vo.data0 = "";
-        vo.area0 = "";
-        vo.data1 = "";
-        vo.area1 = "";
-        vo.data2 = "composite_korea";
-        vo.area2 = "";
-        vo.apiOption = "composite_korea";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k11 - 레이더+적외 합성
-        vo = new MenuItem("SUB");
-        vo.id = "k11";
-        vo.title = "레이더+적외 합성";
-        vo.kind = "rad+inf";
-        vo.data0 = "";
-        vo.area0 = "";
-        vo.data1 = "";
-        vo.area1 = "";
-        vo.data2 = "composite_infrared";
-        vo.area2 = "";
-        vo.apiOption = "composite_infrared";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k12 - 지역 레이더
-        vo = new MenuItem("SUB");
-        vo.id = "k12";
-        vo.title = "지역 레이더";
-        vo.kind = "local_menu";
-        vo.data0 = "";
-        vo.area0 = "";
-        vo.data1 = "";
-        vo.area1 = "";
-        vo.data2 = "";
-        vo.area2 = "";
-        vo.apiOption = "composite_JNI";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k13 - 레이더+카메라
-        vo = new MenuItem("SUB");
-        vo.id = "k13";
-        vo.title = "레이더+카메라";
-        vo.kind = "rad+camera";
-        vo.data0 = "";
-        vo.area0 = "";
-        vo.data1 = "";
-        vo.area1 = "";
-        vo.data2 = "composite_map";
-        vo.area2 = "";
-        vo.apiOption = "composite_map";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k14 - 강수형태
-        vo = new MenuItem("SUB");
-        vo.id = "k14";
-        vo.title = "강수형태";
-        vo.kind = "snowrain";
-        vo.data0 = "";
-        vo.area0 = "";
-        vo.data1 = "";
-        vo.area1 = "";
-        vo.data2 = "snowrain_a";
-        vo.area2 = "";
-        vo.apiOption = "snowrain_a";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k15 - 기온분포도
-        vo = new MenuItem("SUB");
-        vo.id = "k15";
-        vo.title = "기온분포도";
-        vo.kind = "temperature";
-        vo.data0 = "";
-        vo.area0 = "";
-        vo.data1 = "";
-        vo.area1 = "";
-        vo.data2 = "temperature_a";
-        vo.area2 = "";
-        vo.apiOption = "temperature_a";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k16 - 태풍정보
-        vo = new MenuItem("SUB");
-        vo.id = "k16";
-        vo.title = "태풍정보";
-        vo.kind = "typhoon";
-        vo.data0 = "";
-        vo.area0 = "";
-        vo.data1 = "";
-        vo.area1 = "";
-        vo.data2 = "typhoon_a";
-        vo.area2 = "";
-        vo.apiOption = "typhoon_a";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k17 - 시정지도
-        vo = new MenuItem("SUB");
-        vo.id = "k17";
-        vo.title = "시정지도";
-        vo.kind = "visualmap";
-        vo.data0 = "";
-        vo.area0 = "";
-        vo.data1 = "";
-        vo.area1 = "";
-        vo.data2 = "";
-        vo.area2 = "";
-        vo.apiOption = "";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k18 - 예보일기도
-        vo = new MenuItem("SUB");
-        vo.id = "k18";
-        vo.title = "예보일기도";
-        vo.kind = "forecast";
-        vo.data0 = "";
-        vo.area0 = "";
-        vo.data1 = "";
-        vo.area1 = "";
-        vo.data2 = "";
-        vo.area2 = "";
-        vo.apiOption = "";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k19 - 황사
-        vo = new MenuItem("SUB");
-        vo.id = "k19";
-        vo.title = "황사";
-        vo.kind = "asiandust";
-        vo.data0 = "";
-        vo.area0 = "";
-        vo.data1 = "";
-        vo.area1 = "";
-        vo.data2 = "";
-        vo.area2 = "";
-        vo.apiOption = "asiandust_a";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k20 - 일기도
-        vo = new MenuItem("SUB");
-        vo.id = "k20";
-        vo.title = "일기도";
-        vo.kind = "weather_chart";
-        vo.data0 = "";
-        vo.area0 = "";
-        vo.data1 = "";
-        vo.area1 = "";
-        vo.data2 = "";
-        vo.area2 = "";
-        vo.apiOption = "weatherchart_a";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        // k21 - 일기예보
-        vo = new MenuItem("SUB");
-        vo.id = "k21";
-        vo.title = "일기예보";
-        vo.kind = "weather_cast";
-        vo.data0 = "";
-        vo.area0 = "";
-        vo.data1 = "";
-        vo.area1 = "";
-        vo.data2 = "";
-        vo.area2 = "";
-        vo.apiOption = "";
-        vo.icon = R.drawable.placeholder_photo;
-        list.add(vo);
-
-        return list;
+        return MenuCatalogLoader.load(MenuCatalogTable.COLUMNS, MenuCatalogTable.CHUNKS,
+                MenuCatalogTable.ROW_COUNT, R.drawable.placeholder_photo);
     }
 
     // === 메뉴 리스트 관리 ===
+    /**
+     * 메뉴 목록 (수정 불가 뷰 - 복사 없음)
+     */
     public List<MenuItem> getMenuList() {
-        if (!isDataInitialized) {
-            return new ArrayList<>();
-        }
-        return new ArrayList<>(menuList);
+        return catalog.get().getItems();
+    }
+
+    /**
+     * 현재 메뉴 스냅샷 (인덱스 조회용)
+     */
+    public MenuCatalog getCatalog() {
+        return catalog.get();
     }
 
     public void setMenuList(List<MenuItem> newMenuList) {
-        this.menuList.clear();
-        this.menuList.addAll(newMenuList);
+        catalog.set(new MenuCatalog(newMenuList));
     }
 
     public void addMenuItem(MenuItem item) {
-        menuList.add(item);
+        catalog.updateAndGet(current -> current.plus(Collections.singletonList(item)));
     }
 
     public void addMenuItems(List<MenuItem> items) {
-        menuList.addAll(items);
+        catalog.updateAndGet(current -> current.plus(items));
     }
 
     public void removeMenuItem(int position) {
-        if (position >= 0 && position < menuList.size()) {
-            menuList.remove(position);
-        }
+        catalog.updateAndGet(current -> current.minus(position));
     }
 
     public int getMenuCount() {
-        return menuList.size();
+        return catalog.get().size();
     }
 
     public MenuItem getMenuItem(int position) {
-        if (position >= 0 && position < menuList.size()) {
-            return menuList.get(position);
+        return catalog.get().get(position);
+    }
+
+    public MenuItem findMenuById(String id) {
+        return catalog.get().findById(id);
+    }
+
+    public List<MenuItem> findMenusByApiOption(String apiOption) {
+        return catalog.get().findByApiOption(apiOption);
+    }
+
+    public List<MenuItem> findMenusByKind(String kind) {
+        return catalog.get().findByKind(kind);
+    }
+
+    // === 속성 필터 ===
+    /**
+     * 현재 스냅샷의 속성 비트셋 색인 (스냅샷이 바뀐 뒤 처음 호출할 때 다시 생성)
+     */
+    public MenuFacetIndex getFacetIndex() {
+        MenuCatalog current = catalog.get();
+        MenuFacetIndex index = facetIndex;
+        if (index == null || index.getCatalog() != current) {
+            index = MenuFacetIndex.build(current);
+            facetIndex = index;
         }
-        return null;
+        return index;
+    }
+
+    public MenuFacetQuery getFacetQuery() {
+        return facetQuery;
+    }
+
+    public void setFacetQuery(MenuFacetQuery query) {
+        this.facetQuery = query != null ? query : MenuFacetQuery.EMPTY;
+    }
+
+    /**
+     * 속성 필터를 적용한 메뉴 목록 (비트 연산만 수행 - 메인 스레드에서 바로 호출 가능)
+     */
+    public List<MenuItem> getFilteredMenuList() {
+        MenuFacetIndex index = getFacetIndex();
+        return index.getCatalog().select(index.match(facetQuery));
+    }
+
+    public boolean isSectionedGrid() {
+        return isSectionedGrid;
+    }
+
+    public void setSectionedGrid(boolean sectionedGrid) {
+        this.isSectionedGrid = sectionedGrid;
     }
 
     // === 스크롤 위치 관리 ===
@@ -466,7 +270,7 @@ public class DataManager {
 
     // === 데이터 상태 확인 ===
     public boolean hasData() {
-        return isDataInitialized && !menuList.isEmpty();
+        return isDataInitialized && !catalog.get().isEmpty();
     }
 
     public boolean isDataInitialized() {
@@ -482,6 +286,10 @@ public class DataManager {
         this.isIconUrlsLoaded = loaded;
     }
 
+    public long getIconUrlsFetchedAt() {
+        return iconUrlsFetchedAt;
+    }
+
     // === 선택된 메뉴 아이템 관리 ===
     public MenuItem getSelectedMenuItem() {
         return selectedMenuItem;
@@ -507,16 +315,20 @@ public class DataManager {
 
     // === 데이터 초기화 ===
     public void clearAllData() {
-        menuList.clear();
+        catalog.set(MenuCatalog.EMPTY);
         currentSearchQuery = "";
+        facetQuery = MenuFacetQuery.EMPTY;
         currentScrollPosition = 0;
+        isSectionedGrid = false;
         isLoading = false;
         isDarkMode = false;
         lastUpdateTime = "";
         isDataInitialized = false;
         isIconUrlsLoaded = false; // 아이콘 URL 로드 플래그도 초기화
+        iconUrlsFetchedAt = 0L;
         if (appContext != null) {
             initializeDefaultData();
+            applyStoredIconUrls();
         }
     }
 
@@ -535,7 +347,7 @@ public class DataManager {
                         "- Is Loading: %b\n" +
                         "- Is Initialized: %b\n" +
                         "- Dark Mode: %b",
-                menuList.size(),
+                catalog.get().size(),
                 currentSearchQuery,
                 currentScrollPosition,
                 isLoading,
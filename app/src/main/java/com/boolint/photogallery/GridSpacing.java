@@ -0,0 +1,62 @@
+package com.boolint.photogallery;
+
+import android.graphics.Rect;
+
+/**
+ * 그리드 아이템 간격 계산 (GridSpacingItemDecoration / Dynamic 공용)
+ * RecyclerView에 의존하지 않는 순수 계산만 담당
+ */
+public final class GridSpacing {
+
+    private GridSpacing() {
+    }
+
+    /**
+     * position 위치 아이템의 간격을 outRect에 기록
+     *
+     * @param position    어댑터 위치
+     * @param spanCount   그리드 컬럼 수
+     * @param spacing     아이템 간격 (픽셀)
+     * @param includeEdge 가장자리에도 간격 적용 여부
+     */
+    public static void computeOffsets(int position, int spanCount, int spacing,
+                                      boolean includeEdge, Rect outRect) {
+        computeOffsets(position % spanCount, 1, spanCount, position < spanCount,
+                spacing, includeEdge, outRect);
+    }
+
+    /**
+     * 칸 위치/크기로 간격 계산 (섹션 헤더처럼 여러 칸을 차지하는 아이템 포함)
+     *
+     * @param column    시작 칸 (spanIndex)
+     * @param spanSize  차지하는 칸 수
+     * @param spanCount 그리드 컬럼 수
+     * @param firstRow  그리드 첫 행 여부 (spanGroupIndex == 0)
+     */
+    public static void computeOffsets(int column, int spanSize, int spanCount, boolean firstRow,
+                                      int spacing, boolean includeEdge, Rect outRect) {
+        int end = column + spanSize; // 마지막 칸 다음 위치
+
+        if (includeEdge) {
+            // 가장자리 포함: 모든 아이템이 동일한 전체 너비를 갖도록 계산
+            outRect.left = spacing - column * spacing / spanCount;
+            outRect.right = end * spacing / spanCount;
+
+            // 첫 번째 행
+            if (firstRow) {
+                outRect.top = spacing;
+            }
+            // 모든 아이템의 하단
+            outRect.bottom = spacing;
+        } else {
+            // 가장자리 제외: 아이템 사이만 간격
+            outRect.left = column * spacing / spanCount;
+            outRect.right = spacing - end * spacing / spanCount;
+
+            // 첫 번째 행이 아닌 경우
+            if (!firstRow) {
+                outRect.top = spacing;
+            }
+        }
+    }
+}
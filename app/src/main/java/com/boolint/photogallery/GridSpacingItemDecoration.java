@@ -8,6 +8,7 @@ import androidx.recyclerview.widget.RecyclerView;
 import android.graphics.Rect;
 import android.view.View;
 import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.GridLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 
 /**
@@ -39,37 +40,40 @@ public class GridSpacingItemDecoration extends RecyclerView.ItemDecoration {
             return;
         }
 
-        int column = position % spanCount;
-
-        if (includeEdge) {
-            // 가장자리 포함: 모든 아이템이 동일한 전체 너비를 갖도록 계산
-            outRect.left = spacing - column * spacing / spanCount;
-            outRect.right = (column + 1) * spacing / spanCount;
-
-            // 첫 번째 행
-            if (position < spanCount) {
-                outRect.top = spacing;
-            }
-            // 모든 아이템의 하단
-            outRect.bottom = spacing;
-        } else {
-            // 가장자리 제외: 아이템 사이만 간격
-            outRect.left = column * spacing / spanCount;
-            outRect.right = spacing - (column + 1) * spacing / spanCount;
+        computeOffsets(parent, position, spanCount, spacing, includeEdge, outRect);
+    }
 
-            // 첫 번째 행이 아닌 경우
-            if (position >= spanCount) {
-                outRect.top = spacing;
+    /**
+     * 섹션 그리드(SectionSpanSizeLookup)면 캐시된 칸 위치로, 아니면 위치 기반으로 간격 계산
+     * 섹션 그리드에서는 레이아웃 매니저의 현재 spanCount 사용
+     */
+    static void computeOffsets(RecyclerView parent, int position, int spanCount, int spacing,
+                               boolean includeEdge, Rect outRect) {
+        RecyclerView.LayoutManager layoutManager = parent.getLayoutManager();
+        if (layoutManager instanceof GridLayoutManager) {
+            GridLayoutManager.SpanSizeLookup lookup =
+                    ((GridLayoutManager) layoutManager).getSpanSizeLookup();
+            if (lookup instanceof SectionSpanSizeLookup) {
+                int count = ((GridLayoutManager) layoutManager).getSpanCount();
+                GridSpacing.computeOffsets(
+                        lookup.getSpanIndex(position, count),
+                        lookup.getSpanSize(position),
+                        count,
+                        lookup.getSpanGroupIndex(position, count) == 0,
+                        spacing, includeEdge, outRect);
+                return;
             }
         }
+        GridSpacing.computeOffsets(position, spanCount, spacing, includeEdge, outRect);
     }
 
     /**
-     * 동적으로 spanCount를 변경할 수 있는 버전
+     * 동적으로 spanCount/간격을 변경할 수 있는 버전
+     * 변경 후 RecyclerView.invalidateItemDecorations() 호출 필요
      */
     public static class Dynamic extends RecyclerView.ItemDecoration {
         private int spanCount;
-        private final int spacing;
+        private int spacing;
         private final boolean includeEdge;
 
         public Dynamic(int spanCount, int spacing, boolean includeEdge) {
@@ -82,6 +86,10 @@ public class GridSpacingItemDecoration extends RecyclerView.ItemDecoration {
             this.spanCount = spanCount;
         }
 
+        public void setSpacing(int spacing) {
+            this.spacing = spacing;
+        }
+
         @Override
         public void getItemOffsets(@NonNull Rect outRect, @NonNull View view,
                                    @NonNull RecyclerView parent, @NonNull RecyclerView.State state) {
@@ -90,24 +98,7 @@ public class GridSpacingItemDecoration extends RecyclerView.ItemDecoration {
                 return;
             }
 
-            int column = position % spanCount;
-
-            if (includeEdge) {
-                outRect.left = spacing - column * spacing / spanCount;
-                outRect.right = (column + 1) * spacing / spanCount;
-
-                if (position < spanCount) {
-                    outRect.top = spacing;
-                }
-                outRect.bottom = spacing;
-            } else {
-                outRect.left = column * spacing / spanCount;
-                outRect.right = spacing - (column + 1) * spacing / spanCount;
-
-                if (position >= spanCount) {
-                    outRect.top = spacing;
-                }
-            }
+            computeOffsets(parent, position, spanCount, spacing, includeEdge, outRect);
         }
     }
 }
\ No newline at end of file
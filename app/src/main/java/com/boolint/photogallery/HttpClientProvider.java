@@ -0,0 +1,104 @@
+package com.boolint.photogallery;
+
+import android.content.Context;
+import android.util.Log;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+
+/**
+ * 앱 전체에서 공유하는 OkHttpClient 제공 클래스
+ * - 하나의 ConnectionPool / Dispatcher 공유 (keep-alive 연결 재사용)
+ * - HTTP 디스크 캐시 (ThumbKr.jsp 응답 재사용)
+ * - Glide 이미지 로딩은 같은 연결 풀을 쓰되 HTTP 캐시 없는 파생 클라이언트 사용 (PhotoGlideModule)
+ *   (이미지는 Glide 디스크 캐시가 담당 - HTTP 캐시에 중복 저장하면 매니페스트 응답이 밀려남)
+ */
+public class HttpClientProvider {
+    private static final String TAG = "HttpClientProvider";
+
+    private static final String CACHE_DIR_NAME = "http_cache";
+    private static final long CACHE_SIZE_BYTES = 10L * 1024 * 1024; // 10MB
+
+    // 연결 풀: 최대 유휴 연결 수 / keep-alive 유지 시간
+    private static final int MAX_IDLE_CONNECTIONS = 5;
+    private static final long KEEP_ALIVE_MINUTES = 5;
+
+    // 서버가 캐시 헤더를 주지 않을 때 적용할 기본 max-age (초)
+    private static final int DEFAULT_MAX_AGE_SECONDS = 60;
+
+    public static final String USER_AGENT = "WeatherApp(Android)";
+
+    private static volatile OkHttpClient client;
+    private static volatile OkHttpClient imageClient;
+
+    private HttpClientProvider() {
+    }
+
+    public static OkHttpClient getClient(Context context) {
+        if (client == null) {
+            synchronized (HttpClientProvider.class) {
+                if (client == null) {
+                    client = createClient(context.getApplicationContext());
+                }
+            }
+        }
+        return client;
+    }
+
+    /**
+     * Glide 이미지 로딩용 클라이언트 (연결 풀/Dispatcher 공유, HTTP 캐시 없음)
+     */
+    public static OkHttpClient getImageClient(Context context) {
+        if (imageClient == null) {
+            synchronized (HttpClientProvider.class) {
+                if (imageClient == null) {
+                    imageClient = getClient(context).newBuilder()
+                            .cache(null)
+                            .build();
+                }
+            }
+        }
+        return imageClient;
+    }
+
+    private static OkHttpClient createClient(Context appContext) {
+        File cacheDir = new File(appContext.getCacheDir(), CACHE_DIR_NAME);
+        Cache cache = new Cache(cacheDir, CACHE_SIZE_BYTES);
+
+        ConnectionPool connectionPool =
+                new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES);
+
+        Log.d(TAG, "Shared OkHttpClient created, cache: " + cacheDir.getAbsolutePath());
+
+        return new OkHttpClient.Builder()
+                .connectionPool(connectionPool)
+                .cache(cache)
+                .connectTimeout(10, TimeUnit.SECONDS)
+                .readTimeout(15, TimeUnit.SECONDS)
+                .retryOnConnectionFailure(true)
+                .addNetworkInterceptor(HttpClientProvider::applyDefaultCacheControl)
+                .build();
+    }
+
+    /**
+     * 서버 응답에 Cache-Control 헤더가 없으면 짧은 max-age를 부여해
+     * 반복 요청을 디스크 캐시에서 응답할 수 있도록 함
+     */
+    private static Response applyDefaultCacheControl(Interceptor.Chain chain) throws IOException {
+        Response response = chain.proceed(chain.request());
+        if (response.header("Cache-Control") != null || !"GET".equals(chain.request().method())) {
+            return response;
+        }
+        return response.newBuilder()
+                .removeHeader("Pragma")
+                .header("Cache-Control", "public, max-age=" + DEFAULT_MAX_AGE_SECONDS)
+                .build();
+    }
+}
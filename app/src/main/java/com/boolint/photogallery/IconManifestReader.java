@@ -0,0 +1,145 @@
+package com.boolint.photogallery;
+
+import android.util.JsonReader;
+import android.util.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * ThumbKr.jsp 아이콘 매니페스트 스트리밍 파서
+ * - 응답 전체를 문자열/JSON 트리로 만들지 않고 files 배열을 순차적으로 읽음
+ * - argument/url/version 을 읽는 즉시 EntryHandler로 전달
+ *
+ * 매니페스트 형식:
+ * { "files": [ { "argument": "vis_ko", "url": "http://...", "version": "..." }, ... ] }
+ *
+ * version은 파일 내용이 바뀔 때 함께 바뀌는 값으로 VERSION_FIELDS 중 처음 발견된 필드를 사용하고,
+ * 없으면 빈 문자열 (이미지 요청은 URL만으로 구분 - IconSignatures)
+ */
+public final class IconManifestReader {
+
+    /**
+     * 매니페스트 항목 하나를 읽을 때마다 호출
+     */
+    public interface EntryHandler {
+        void onEntry(String argument, String url, String version);
+    }
+
+    // 파일별 버전 정보로 인식하는 필드 (우선순위 순)
+    private static final String[] VERSION_FIELDS = {
+            "version", "hash", "etag", "lastModified", "timestamp", "time"
+    };
+
+    private IconManifestReader() {
+    }
+
+    /**
+     * 스트림에서 매니페스트를 읽어 유효한 항목마다 handler 호출
+     *
+     * @return 전달된 항목 수
+     */
+    public static int read(InputStream in, EntryHandler handler) throws IOException {
+        JsonReader reader = new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        try {
+            return readRoot(reader, handler);
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * 스트림에서 매니페스트를 읽어 apiOption(argument)별 URL/버전 표에 기록
+     * 메뉴에는 MenuCatalog.withIcons로 새 스냅샷을 만들어 적용
+     *
+     * @return 매니페스트 항목 수
+     */
+    public static int readInto(InputStream in, Map<String, String> urls,
+                               Map<String, String> versions) throws IOException {
+        return read(in, (argument, url, version) -> {
+            urls.put(argument, url);
+            versions.put(argument, version);
+        });
+    }
+
+    private static int readRoot(JsonReader reader, EntryHandler handler) throws IOException {
+        int count = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("files".equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                count += readFiles(reader, handler);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return count;
+    }
+
+    private static int readFiles(JsonReader reader, EntryHandler handler) throws IOException {
+        int count = 0;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                reader.skipValue();
+                continue;
+            }
+
+            String argument = "";
+            String url = "";
+            String version = "";
+            int versionPriority = VERSION_FIELDS.length;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if ("argument".equals(name)) {
+                    argument = nextStringOrEmpty(reader);
+                } else if ("url".equals(name)) {
+                    url = nextStringOrEmpty(reader);
+                } else {
+                    int priority = versionFieldPriority(name);
+                    if (priority < versionPriority) {
+                        String value = nextStringOrEmpty(reader);
+                        if (!value.isEmpty()) {
+                            version = value;
+                            versionPriority = priority;
+                        }
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+            }
+            reader.endObject();
+
+            if (!argument.isEmpty() && !url.isEmpty()) {
+                handler.onEntry(argument, url, version);
+                count++;
+            }
+        }
+        reader.endArray();
+        return count;
+    }
+
+    private static int versionFieldPriority(String name) {
+        for (int i = 0; i < VERSION_FIELDS.length; i++) {
+            if (VERSION_FIELDS[i].equals(name)) {
+                return i;
+            }
+        }
+        return VERSION_FIELDS.length;
+    }
+
+    private static String nextStringOrEmpty(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            return reader.nextString();
+        }
+        reader.skipValue();
+        return "";
+    }
+}
@@ -0,0 +1,24 @@
+package com.boolint.photogallery;
+
+import com.bumptech.glide.load.Key;
+import com.bumptech.glide.signature.EmptySignature;
+import com.bumptech.glide.signature.ObjectKey;
+
+/**
+ * 아이콘 이미지의 Glide 캐시 시그니처
+ * - 그리드 / 상세 / 프리페치 / 백그라운드 예열이 모두 같은 키를 쓰도록 항목 값만으로 결정 (시각과 무관)
+ * - 매니페스트 버전이 있으면 버전 기준, 없으면 URL만으로 구분 (URL은 이미 캐시 키에 포함되므로 빈 시그니처)
+ *   실제 ThumbKr.jsp 매니페스트에는 버전 필드가 없고 이미지 파일명에 생성 시각이 들어 있어 내용이 바뀌면 URL도 바뀜
+ */
+public final class IconSignatures {
+
+    private IconSignatures() {
+    }
+
+    public static Key of(MenuItem item) {
+        if (item.iconVersion != null && !item.iconVersion.isEmpty()) {
+            return new ObjectKey(item.iconVersion);
+        }
+        return EmptySignature.obtain();
+    }
+}
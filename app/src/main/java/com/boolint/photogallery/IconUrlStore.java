@@ -0,0 +1,106 @@
+package com.boolint.photogallery;
+
+import android.content.Context;
+import android.util.AtomicFile;
+import android.util.Log;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 마지막으로 성공한 아이콘 매니페스트(apiOption → iconUrl, iconVersion)를 디스크에 저장
+ * - 콜드 스타트 시 네트워크 응답 전에 즉시 적용 (stale-while-revalidate)
+ * - 바이너리 형식: [형식 버전][저장 시각][항목 수][(apiOption, url, iconVersion) * N]
+ */
+public class IconUrlStore {
+    private static final String TAG = "IconUrlStore";
+
+    private static final String FILE_NAME = "icon_urls.bin";
+    private static final int FORMAT_VERSION = 2;
+
+    /**
+     * 저장된 매니페스트 스냅샷
+     */
+    public static class Snapshot {
+        public final long fetchedAt;
+        public final Map<String, String> urls;
+        public final Map<String, String> versions;
+
+        public Snapshot(long fetchedAt, Map<String, String> urls, Map<String, String> versions) {
+            this.fetchedAt = fetchedAt;
+            this.urls = urls;
+            this.versions = versions;
+        }
+    }
+
+    private final AtomicFile file;
+
+    public IconUrlStore(Context context) {
+        this.file = new AtomicFile(new File(context.getFilesDir(), FILE_NAME));
+    }
+
+    /**
+     * 저장된 스냅샷 로드 (없거나 손상된 경우 null)
+     * AtomicFile은 동시 쓰기/읽기를 보호하지 않으므로 load/save는 같은 잠금으로 직렬화
+     */
+    public synchronized Snapshot load() {
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(file.openRead()))) {
+            if (in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            long fetchedAt = in.readLong();
+            int count = in.readInt();
+            Map<String, String> urls = new HashMap<>(count * 2);
+            Map<String, String> versions = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                String apiOption = in.readUTF();
+                urls.put(apiOption, in.readUTF());
+                versions.put(apiOption, in.readUTF());
+            }
+            return new Snapshot(fetchedAt, urls, versions);
+        } catch (FileNotFoundException e) {
+            return null;
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to read icon url cache", e);
+            return null;
+        }
+    }
+
+    /**
+     * 스냅샷 저장 (임시 파일에 쓴 뒤 교체하므로 중간 실패 시에도 기존 파일 유지)
+     */
+    public synchronized boolean save(Snapshot snapshot) {
+        FileOutputStream fos = null;
+        try {
+            fos = file.startWrite();
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos));
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(snapshot.fetchedAt);
+            out.writeInt(snapshot.urls.size());
+            for (Map.Entry<String, String> entry : snapshot.urls.entrySet()) {
+                String version = snapshot.versions.get(entry.getKey());
+                out.writeUTF(entry.getKey());
+                out.writeUTF(entry.getValue());
+                out.writeUTF(version != null ? version : "");
+            }
+            out.flush();
+            file.finishWrite(fos);
+            return true;
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to write icon url cache", e);
+            if (fos != null) {
+                file.failWrite(fos);
+            }
+            return false;
+        }
+    }
+}
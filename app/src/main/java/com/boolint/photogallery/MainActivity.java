@@ -1,19 +1,33 @@
 package com.boolint.photogallery;
 
+import android.content.Context;
 import android.content.Intent;
+import android.os.Build;
 import android.os.Bundle;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.os.Trace;
 import android.content.res.Configuration;
+import android.graphics.drawable.Drawable;
 import android.util.Log;
 import android.view.LayoutInflater;
+import android.view.Menu;
+import android.view.SubMenu;
+import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.ViewTreeObserver;
 import android.widget.FrameLayout;
 import android.widget.ImageView;
 import android.widget.TextView;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
+import androidx.appcompat.widget.SearchView;
 import androidx.appcompat.widget.Toolbar;
+import androidx.recyclerview.widget.AsyncListDiffer;
+import androidx.recyclerview.widget.DiffUtil;
 import androidx.recyclerview.widget.GridLayoutManager;
 import androidx.recyclerview.widget.RecyclerView;
 import androidx.activity.EdgeToEdge;
@@ -25,14 +39,28 @@ import androidx.core.view.WindowInsetsControllerCompat;
 import com.google.android.material.appbar.AppBarLayout;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.util.Map;
+import java.util.Objects;
 
 import com.bumptech.glide.Glide;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
+import com.bumptech.glide.load.DataSource;
+import com.bumptech.glide.load.DecodeFormat;
+import com.bumptech.glide.load.Key;
 import com.bumptech.glide.load.engine.DiskCacheStrategy;
+import com.bumptech.glide.load.engine.GlideException;
+import com.bumptech.glide.load.resource.bitmap.DownsampleStrategy;
+import com.bumptech.glide.load.resource.bitmap.Downsampler;
+import com.bumptech.glide.request.RequestListener;
 import com.bumptech.glide.request.RequestOptions;
-import com.bumptech.glide.signature.ObjectKey;
+import com.bumptech.glide.request.target.ImageViewTarget;
+import com.bumptech.glide.request.target.Target;
 
 import okhttp3.Call;
 import okhttp3.Callback;
@@ -41,12 +69,19 @@ import okhttp3.Request;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 
-import org.json.JSONArray;
-import org.json.JSONObject;
-
 public class MainActivity extends AppCompatActivity {
     private static final String TAG = "MainActivity";
-    private static final String ICON_API = "http://wko.boolint.com:8080/WeatherService/WeatherInfo/ThumbKr.jsp";
+    static final String ICON_API = "http://wko.boolint.com:8080/WeatherService/WeatherInfo/ThumbKr.jsp";
+
+    // 벤치마크 빌드에서 로컬 대체 서버 주소를 받기 위한 extra
+    static final String EXTRA_ICON_API = "com.boolint.photogallery.extra.ICON_API";
+
+    // 벤치마크 빌드에서 광고 시작 모드를 고르기 위한 extra (boolean, 없으면 DEFER_AD_STARTUP_DEFAULT)
+    static final String EXTRA_DEFER_AD_STARTUP = "com.boolint.photogallery.extra.DEFER_AD_STARTUP";
+
+    // 상세 화면 진입 지연 측정용 비동기 트레이스 섹션 (탭 → SampleActivity 이미지 표시)
+    static final String TRACE_DETAIL_OPEN = "DetailOpen";
+    static final int TRACE_DETAIL_OPEN_COOKIE = 0;
 
     private interface IconLoadCallback {
         void onLoaded();
@@ -65,36 +100,123 @@ public class MainActivity extends AppCompatActivity {
     private AdMobHelper adMobHelper;
     private FrameLayout adContainerView;
 
+    // 광고 SDK 초기화/배너 로드를 그리드 첫 프레임 이후 메인 스레드 유휴 시점으로 미룸
+    // (false면 기존처럼 onCreate에서 바로 시작 - 두 모드 모두 firstFrame과 모드 속성을 기록하므로
+    //  StartupTracer 기록의 firstFrame을 모드별로 비교해 절약된 시간을 확인)
+    private static final boolean DEFER_AD_STARTUP_DEFAULT = true;
+    private boolean deferAdStartup = DEFER_AD_STARTUP_DEFAULT;
+
+    private String iconApi = ICON_API;
+
+    // 속성 필터 메뉴 항목 그룹 (groupId - FACET_GROUP_BASE = Facet.ordinal)
+    private static final int FACET_GROUP_BASE = 100;
+
+    // 입력 중 검색 (백그라운드 색인/필터링)
+    private final MenuSearcher menuSearcher = new MenuSearcher();
+
+    // 스크롤 속도 기반 썸네일 프리로더
+    private ThumbnailPreloader thumbnailPreloader;
+
+    // 메모리 부족 단계에 따라 뷰 캐시/광고 해제
+    private MemoryGovernor memoryGovernor;
+    private final MemoryGovernor.Listener memoryListener = this::applyMemoryLevel;
+
+    // 그리드 레이아웃/간격 (화면 회전 시 새로 만들지 않고 spanCount만 갱신)
+    private GridLayoutManager gridLayoutManager;
+    private GridSpacingItemDecoration.Dynamic gridSpacingDecoration;
+
+    // 현재 레이아웃 기준 화면 밖 뷰 캐시 크기 (ResponsiveLayoutHelper에서 계산)
+    private int itemViewCacheSize;
+
+    // 시작 단계별 시간 측정
+    private final StartupTracer startupTracer = new StartupTracer();
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
         Log.d(TAG, "onCreate called");
 
+        iconApi = resolveIconApi();
+        deferAdStartup = resolveDeferAdStartup();
+        startupTracer.setAttribute(StartupTracer.ATTR_AD_STARTUP, deferAdStartup
+                ? StartupTracer.AD_STARTUP_DEFERRED : StartupTracer.AD_STARTUP_EAGER);
+
+        startupTracer.begin("setContentView");
         EdgeToEdge.enable(this);
         setContentView(R.layout.activity_main);
+        startupTracer.end("setContentView");
 
+        startupTracer.begin("ResponsiveLayoutHelper");
         layoutHelper = new ResponsiveLayoutHelper(this);
         Log.d(TAG, layoutHelper.getDebugInfo());
+        startupTracer.end("ResponsiveLayoutHelper");
 
         // DataManager 초기화
+        startupTracer.begin("DataManager.initialize");
         dataManager = DataManager.getInstance();
         dataManager.initialize(this);
+        startupTracer.end("DataManager.initialize");
+
+        // 백그라운드 썸네일 캐시 예열 작업 등록
+        // (벤치마크 빌드는 측정 중 네트워크/디스크 작업이 끼어들지 않고 실행마다 같은 상태가 되도록 등록하지 않음)
+        startupTracer.begin("ThumbnailCacheWorker.schedule");
+        if (BuildConfig.ALLOW_ENDPOINT_OVERRIDE) {
+            ThumbnailCacheWorker.cancel(this);
+        } else {
+            ThumbnailCacheWorker.schedule(this, iconApi);
+        }
+        startupTracer.end("ThumbnailCacheWorker.schedule");
 
         initViews();
 
         // AdMob 헬퍼 초기화 및 광고 로드
         initializeAdMob();
 
+        startupTracer.begin("setupToolbar");
         setupStatusBar();
         setupEdgeToEdgeInsets();
         setupToolbar();
+        startupTracer.end("setupToolbar");
+
+        startupTracer.begin("setupRecyclerView");
         setupRecyclerView();
+        startupTracer.end("setupRecyclerView");
+
+        startupTracer.begin("setupScroll");
         setupScrollEffect();
         restoreScrollPosition();
+        startupTracer.end("setupScroll");
+
+        memoryGovernor = MemoryGovernor.install(this);
+        memoryGovernor.addListener(memoryListener);
 
         Log.d(TAG, "Setup completed for " + layoutHelper.getScreenType());
     }
 
+    /**
+     * 아이콘 매니페스트 주소 (벤치마크 빌드에서만 intent extra로 재지정 가능)
+     */
+    private String resolveIconApi() {
+        if (BuildConfig.ALLOW_ENDPOINT_OVERRIDE) {
+            String override = getIntent().getStringExtra(EXTRA_ICON_API);
+            if (override != null && !override.isEmpty()) {
+                Log.d(TAG, "Icon API overridden: " + override);
+                return override;
+            }
+        }
+        return ICON_API;
+    }
+
+    /**
+     * 광고 시작 지연 여부 (벤치마크 빌드에서만 intent extra로 재지정 가능 - 두 모드 시작 시간 비교용)
+     */
+    private boolean resolveDeferAdStartup() {
+        if (BuildConfig.ALLOW_AD_STARTUP_OVERRIDE && getIntent().hasExtra(EXTRA_DEFER_AD_STARTUP)) {
+            return getIntent().getBooleanExtra(EXTRA_DEFER_AD_STARTUP, DEFER_AD_STARTUP_DEFAULT);
+        }
+        return DEFER_AD_STARTUP_DEFAULT;
+    }
+
     private void initViews() {
         recyclerView = findViewById(R.id.recyclerView);
         appBarLayout = findViewById(R.id.appBarLayout);
@@ -104,8 +226,60 @@ public class MainActivity extends AppCompatActivity {
 
     private void initializeAdMob() {
         adMobHelper = new AdMobHelper(this, adContainerView, recyclerView, layoutHelper);
+
+        if (!deferAdStartup) {
+            startupTracer.begin("AdMobHelper.initialize");
+            adMobHelper.initialize();
+            startupTracer.end("AdMobHelper.initialize");
+
+            startupTracer.begin("AdMobHelper.loadBannerAd");
+            adMobHelper.loadBannerAd();
+            startupTracer.end("AdMobHelper.loadBannerAd");
+        } else {
+            // 배너 자리를 먼저 확보해 광고가 나중에 붙어도 그리드가 밀리지 않게 함
+            adMobHelper.setDefaultRecyclerViewPadding();
+        }
+        observeFirstFrame();
+    }
+
+    /**
+     * 그리드 첫 프레임이 그려진 시점 기록 (두 모드 공통)
+     * 지연 모드면 이후 메인 스레드가 유휴 상태가 될 때 광고 시작
+     */
+    private void observeFirstFrame() {
+        recyclerView.getViewTreeObserver().addOnPreDrawListener(new ViewTreeObserver.OnPreDrawListener() {
+            @Override
+            public boolean onPreDraw() {
+                recyclerView.getViewTreeObserver().removeOnPreDrawListener(this);
+                // 현재 프레임의 draw가 끝난 다음 실행
+                recyclerView.post(() -> {
+                    startupTracer.mark(StartupTracer.PHASE_FIRST_FRAME);
+                    if (deferAdStartup) {
+                        Looper.myQueue().addIdleHandler(() -> {
+                            startDeferredAds();
+                            return false; // 한 번만 실행
+                        });
+                    }
+                });
+                return true;
+            }
+        });
+    }
+
+    private void startDeferredAds() {
+        if (isFinishing() || isDestroyed() || adMobHelper == null) {
+            return;
+        }
+
+        long start = SystemClock.elapsedRealtimeNanos();
+        Trace.beginSection("AdMobHelper.deferredStart");
         adMobHelper.initialize();
         adMobHelper.loadBannerAd();
+        Trace.endSection();
+
+        // 첫 프레임 이후 실행된 광고 시작 작업 시간 (지연 모드 기록 구분용 - 절약량 자체는 firstFrame 비교로 확인)
+        startupTracer.record(this, StartupTracer.PHASE_AD_STARTUP_DEFERRED,
+                SystemClock.elapsedRealtimeNanos() - start);
     }
 
     private void setupStatusBar() {
@@ -133,7 +307,8 @@ public class MainActivity extends AppCompatActivity {
             if (isLandscape) {
                 v.setPadding(0, 0, 0, 0);
                 appBarLayout.setPadding(leftInset, systemBars.top, rightInset, 0);
-                recyclerView.setPadding(leftInset, 0, rightInset, 0);
+                // 하단 패딩은 AdMobHelper가 배너 높이에 맞춰 관리
+                recyclerView.setPadding(leftInset, 0, rightInset, recyclerView.getPaddingBottom());
 
                 // 광고 컨테이너: 좌우 시스템바 영역 피하기
                 androidx.coordinatorlayout.widget.CoordinatorLayout.LayoutParams params =
@@ -151,7 +326,7 @@ public class MainActivity extends AppCompatActivity {
             } else {
                 v.setPadding(0, 0, 0, 0);
                 appBarLayout.setPadding(0, systemBars.top, 0, 0);
-                recyclerView.setPadding(0, 0, 0, 0);
+                recyclerView.setPadding(0, 0, 0, recyclerView.getPaddingBottom());
 
                 // 세로모드: 하단 네비게이션바만 고려
                 androidx.coordinatorlayout.widget.CoordinatorLayout.LayoutParams params =
@@ -179,11 +354,23 @@ public class MainActivity extends AppCompatActivity {
 
     private void setupRecyclerView() {
         List<MenuItem> menuList = dataManager.getMenuList();
-        adapter = new MenuAdapter(menuList);
+        adapter = new MenuAdapter(menuList, dataManager.isSectionedGrid());
+        adapter.applyThumbnailProfile(this, layoutHelper);
+
+        // 첫 썸네일이 화면에 표시되면 시작 완료 보고
+        adapter.setOnFirstThumbnailShownListener(() -> {
+            if (!startupTracer.isFinished()) {
+                reportFullyDrawn();
+                startupTracer.finish(this);
+            }
+        });
 
         // 클릭 리스너 설정
         adapter.setOnMenuClickListener((menuItem, position) -> {
             dataManager.setSelectedMenu(menuItem, position);
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+                Trace.beginAsyncSection(TRACE_DETAIL_OPEN, TRACE_DETAIL_OPEN_COOKIE);
+            }
             Intent intent = new Intent(MainActivity.this, SampleActivity.class);
             startActivity(intent);
         });
@@ -191,17 +378,16 @@ public class MainActivity extends AppCompatActivity {
         setupGridLayout();
         recyclerView.setAdapter(adapter);
 
-        // API에서 아이콘 URL 로드
+        // API에서 아이콘 URL 로드 (저장된 URL이 이미 적용되어 있어도 백그라운드에서 재검증)
         if (!dataManager.isIconUrlsLoaded()) {
-            Log.d(TAG, "Loading icon URLs from API...");
-            loadIconUrlsFromApiAsync(menuList, ICON_API, new IconLoadCallback() {
+            Log.d(TAG, "Loading icon URLs from API... (stored fetchedAt: "
+                    + dataManager.getIconUrlsFetchedAt() + ")");
+            loadIconUrlsFromApiAsync(iconApi, new IconLoadCallback() {
                 @Override
                 public void onLoaded() {
                     runOnUiThread(() -> {
                         dataManager.setIconUrlsLoaded(true);
-                        if (adapter != null) {
-                            adapter.notifyDataSetChanged();
-                        }
+                        refreshMenuList();
                         Log.d(TAG, "Icon URLs loaded successfully");
                     });
                 }
@@ -215,44 +401,297 @@ public class MainActivity extends AppCompatActivity {
             Log.d(TAG, "Icon URLs already loaded, skipping API call");
         }
 
+        // 재생성 시 이전 검색어/속성 필터 유지
+        if (!dataManager.getCurrentSearchQuery().isEmpty() || !dataManager.getFacetQuery().isEmpty()) {
+            refreshMenuList();
+        }
+
         Log.d(TAG, "RecyclerView setup with " + menuList.size() +
                 " items, columns: " + layoutHelper.getGridColumns());
     }
 
+    /**
+     * 현재 카탈로그 스냅샷과 속성 필터/검색어로 그리드 목록 갱신
+     * - 속성 필터만 있으면 비트 연산 결과를 바로 어댑터에 전달
+     * - 검색어가 있으면 MenuSearcher 스레드에서 검색 후 필터와 AND
+     * 어댑터는 변경분만 AsyncListDiffer로 반영
+     */
+    private void refreshMenuList() {
+        MenuFacetIndex facets = dataManager.getFacetIndex();
+        BitSet filter = facets.match(dataManager.getFacetQuery());
+        String query = dataManager.getCurrentSearchQuery();
+
+        if (query.trim().isEmpty()) {
+            menuSearcher.cancel();
+            if (adapter != null) {
+                adapter.updateMenuData(facets.getCatalog().select(filter));
+            }
+            return;
+        }
+
+        menuSearcher.search(facets.getCatalog(), query, filter, (searchQuery, items) -> {
+            if (adapter != null) {
+                adapter.updateMenuData(items);
+            }
+        });
+    }
+
+    @Override
+    public boolean onCreateOptionsMenu(Menu menu) {
+        getMenuInflater().inflate(R.menu.menu_main, menu);
+
+        // 툴바 메뉴 항목 (앱의 MenuItem과 이름이 같아 전체 이름 사용)
+        android.view.MenuItem searchItem = menu.findItem(R.id.action_search);
+        SearchView searchView = (SearchView) searchItem.getActionView();
+        if (searchView == null) {
+            return true;
+        }
+        searchView.setQueryHint(getString(R.string.search_hint));
+
+        String query = dataManager.getCurrentSearchQuery();
+        if (!query.isEmpty()) {
+            searchItem.expandActionView();
+            searchView.setQuery(query, false);
+        }
+
+        searchView.setOnQueryTextListener(new SearchView.OnQueryTextListener() {
+            @Override
+            public boolean onQueryTextSubmit(String text) {
+                searchView.clearFocus();
+                return true;
+            }
+
+            @Override
+            public boolean onQueryTextChange(String text) {
+                dataManager.setCurrentSearchQuery(text);
+                refreshMenuList();
+                return true;
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public boolean onPrepareOptionsMenu(Menu menu) {
+        MenuFacetIndex facets = dataManager.getFacetIndex();
+        MenuFacetQuery selected = dataManager.getFacetQuery();
+        populateFacetMenu(menu.findItem(R.id.action_filter_kind), MenuFacetIndex.Facet.KIND, facets, selected);
+        populateFacetMenu(menu.findItem(R.id.action_filter_area), MenuFacetIndex.Facet.AREA, facets, selected);
+        populateFacetMenu(menu.findItem(R.id.action_filter_act_type), MenuFacetIndex.Facet.ACT_TYPE, facets, selected);
+
+        android.view.MenuItem groupItem = menu.findItem(R.id.action_group_by_kind);
+        if (groupItem != null) {
+            groupItem.setChecked(dataManager.isSectionedGrid());
+        }
+        return super.onPrepareOptionsMenu(menu);
+    }
+
+    /**
+     * 속성 값마다 체크 가능한 항목 추가 (값이 하나뿐인 속성은 숨김)
+     */
+    private void populateFacetMenu(@Nullable android.view.MenuItem parent, MenuFacetIndex.Facet facet,
+                                   MenuFacetIndex facets, MenuFacetQuery selected) {
+        if (parent == null || parent.getSubMenu() == null) {
+            return;
+        }
+        SubMenu subMenu = parent.getSubMenu();
+        subMenu.clear();
+
+        int groupId = FACET_GROUP_BASE + facet.ordinal();
+        for (String value : facets.getValues(facet)) {
+            subMenu.add(groupId, Menu.NONE, Menu.NONE, value)
+                    .setCheckable(true)
+                    .setChecked(selected.isSelected(facet, value));
+        }
+        parent.setVisible(facets.getValues(facet).size() > 1);
+    }
+
+    @Override
+    public boolean onOptionsItemSelected(@NonNull android.view.MenuItem item) {
+        if (item.getItemId() == R.id.action_group_by_kind) {
+            boolean sectioned = !item.isChecked();
+            item.setChecked(sectioned);
+            dataManager.setSectionedGrid(sectioned);
+            if (adapter != null) {
+                adapter.setSectioned(sectioned);
+            }
+            return true;
+        }
+
+        if (item.getItemId() == R.id.action_filter_clear) {
+            dataManager.setFacetQuery(MenuFacetQuery.EMPTY);
+            refreshMenuList();
+            return true;
+        }
+
+        int facetOrdinal = item.getGroupId() - FACET_GROUP_BASE;
+        if (facetOrdinal >= 0 && facetOrdinal < MenuFacetIndex.Facet.values().length) {
+            MenuFacetIndex.Facet facet = MenuFacetIndex.Facet.values()[facetOrdinal];
+            boolean select = !item.isChecked();
+            item.setChecked(select);
+            dataManager.setFacetQuery(dataManager.getFacetQuery()
+                    .with(facet, String.valueOf(item.getTitle()), select));
+            refreshMenuList();
+            return true;
+        }
+        return super.onOptionsItemSelected(item);
+    }
+
     private void setupGridLayout() {
         int columns = layoutHelper.getGridColumns();
         int spacing = layoutHelper.getGridSpacing();
 
-        GridLayoutManager gridLayout = new GridLayoutManager(this, columns);
-        recyclerView.setLayoutManager(gridLayout);
+        gridLayoutManager = new GridLayoutManager(this, columns);
+        if (adapter != null) {
+            // 섹션 헤더는 전체 폭, 아이템은 1칸 (위치별 배치는 lookup이 캐시)
+            SectionSpanSizeLookup spanSizeLookup = adapter.getSpanSizeLookup();
+            spanSizeLookup.setSpanCount(columns);
+            gridLayoutManager.setSpanSizeLookup(spanSizeLookup);
+        }
+        recyclerView.setLayoutManager(gridLayoutManager);
 
         // 기존 decoration 제거
         while (recyclerView.getItemDecorationCount() > 0) {
             recyclerView.removeItemDecorationAt(0);
         }
 
-        // dp를 픽셀로 변환
-        float density = getResources().getDisplayMetrics().density;
-        int spacingPx = (int) (spacing * density);
+        // 화면 회전 시 spanCount/간격만 바꿀 수 있도록 Dynamic 사용
         boolean includeEdge = true;
-
-        recyclerView.addItemDecoration(
-                new GridSpacingItemDecoration(columns, spacingPx, includeEdge)
-        );
+        gridSpacingDecoration = new GridSpacingItemDecoration.Dynamic(
+                columns, toPx(spacing), includeEdge);
+        recyclerView.addItemDecoration(gridSpacingDecoration);
+
+        // 스크롤 방향/속도에 따라 다음 행 썸네일을 미리 메모리 캐시에 로드
+        // (다시 호출되어도 스크롤 리스너가 중복 등록되지 않도록 한 번만 생성)
+        if (thumbnailPreloader == null) {
+            thumbnailPreloader = new ThumbnailPreloader(Glide.with(this), adapter, columns);
+            recyclerView.addOnScrollListener(thumbnailPreloader);
+            if (adapter != null) {
+                adapter.setBindRequestListener(thumbnailPreloader.getBindListener());
+                adapter.setOnListChangedListener(thumbnailPreloader::onListChanged);
+            }
+        } else {
+            thumbnailPreloader.setColumns(columns);
+        }
 
         recyclerView.setHasFixedSize(true);
-        recyclerView.setItemViewCacheSize(20);
-        recyclerView.setDrawingCacheEnabled(true);
-        recyclerView.setDrawingCacheQuality(View.DRAWING_CACHE_QUALITY_HIGH);
+        applyViewCacheSizes();
+
+        Log.d(TAG, String.format(
+                "Grid layout: %s, columns: %d, spacing: %ddp, viewCache: %d, pool: %d",
+                layoutHelper.getScreenType(),
+                columns,
+                spacing,
+                itemViewCacheSize,
+                layoutHelper.getRecycledViewPoolSize()
+        ));
+    }
+
+    /**
+     * 화면 회전/폴더블 전환 시 그리드 갱신
+     * - 레이아웃 매니저/데코레이션/ViewHolder를 그대로 두고 spanCount와 간격만 바꿈
+     * - 바인딩된 썸네일은 유지되고 재배치를 위한 레이아웃 한 번만 수행
+     * - 첫 번째로 보이던 아이템을 같은 위치에 고정
+     */
+    private void updateGridLayout() {
+        if (gridLayoutManager == null || gridSpacingDecoration == null) {
+            setupGridLayout();
+            return;
+        }
+
+        int columns = layoutHelper.getGridColumns();
+        int spacing = layoutHelper.getGridSpacing();
+
+        // 기준 아이템과 화면 상단으로부터의 오프셋
+        int anchorPosition = gridLayoutManager.findFirstVisibleItemPosition();
+        int anchorOffset = 0;
+        View anchorView = anchorPosition != RecyclerView.NO_POSITION
+                ? gridLayoutManager.findViewByPosition(anchorPosition) : null;
+        if (anchorView != null) {
+            anchorOffset = gridLayoutManager.getDecoratedTop(anchorView) - recyclerView.getPaddingTop();
+        }
+
+        if (adapter != null) {
+            adapter.getSpanSizeLookup().setSpanCount(columns);
+        }
+        gridLayoutManager.setSpanCount(columns);
+        gridSpacingDecoration.setSpanCount(columns);
+        gridSpacingDecoration.setSpacing(toPx(spacing));
+        // 아이템 간격만 다시 계산 (바인딩 없음, requestLayout 포함)
+        recyclerView.invalidateItemDecorations();
+
+        if (thumbnailPreloader != null) {
+            thumbnailPreloader.setColumns(columns);
+        }
+
+        applyViewCacheSizes();
+
+        if (anchorPosition != RecyclerView.NO_POSITION) {
+            gridLayoutManager.scrollToPositionWithOffset(anchorPosition, anchorOffset);
+        }
 
         Log.d(TAG, String.format(
-                "Grid layout: %s, columns: %d, spacing: %ddp",
+                "Grid updated: %s, columns: %d, spacing: %ddp, anchor: %d",
                 layoutHelper.getScreenType(),
                 columns,
-                spacing
+                spacing,
+                anchorPosition
         ));
     }
 
+    /**
+     * 컬럼 수와 보이는 행 수로 뷰 캐시/재사용 풀 크기 설정 (화면 회전 시 다시 계산)
+     * 6열 가로모드에서도 스크롤 중 새 ViewHolder를 만들지 않도록 풀은 한 화면 + 1행 분량
+     */
+    private void applyViewCacheSizes() {
+        itemViewCacheSize = layoutHelper.getItemViewCacheSize();
+        recyclerView.getRecycledViewPool().setMaxRecycledViews(
+                MenuAdapter.VIEW_TYPE_ITEM, layoutHelper.getRecycledViewPoolSize());
+
+        MemoryGovernor.Level level = memoryGovernor != null
+                ? memoryGovernor.getLevel() : MemoryGovernor.Level.NORMAL;
+        recyclerView.setItemViewCacheSize(viewCacheSizeFor(level));
+    }
+
+    private int viewCacheSizeFor(MemoryGovernor.Level level) {
+        switch (level) {
+            case NORMAL:
+                return itemViewCacheSize;
+            case REDUCED:
+                return itemViewCacheSize / 2;
+            default:
+                return 0;
+        }
+    }
+
+    /**
+     * 메모리 부족 단계별 해제 (NORMAL이면 원래 설정으로 복원)
+     * - REDUCED: 화면 밖 뷰 캐시 절반 (포그라운드 - 보이는 아이템은 유지)
+     * - HIDDEN: UI가 숨겨진 뒤 뷰 캐시 비움 (캐시된 뷰는 재사용 풀로 이동)
+     * - BACKGROUND: 재사용 풀까지 비움
+     * - CRITICAL: 배너 광고 해제
+     */
+    private void applyMemoryLevel(MemoryGovernor.Level level) {
+        recyclerView.setItemViewCacheSize(viewCacheSizeFor(level));
+        if (level.compareTo(MemoryGovernor.Level.BACKGROUND) >= 0) {
+            recyclerView.getRecycledViewPool().clear();
+        }
+
+        if (adMobHelper != null) {
+            if (level == MemoryGovernor.Level.CRITICAL) {
+                adMobHelper.releaseBanner();
+            } else if (level == MemoryGovernor.Level.NORMAL) {
+                adMobHelper.restoreBanner();
+            }
+        }
+        Log.d(TAG, "Memory level applied: " + level);
+    }
+
+    // dp를 픽셀로 변환
+    private int toPx(int dp) {
+        return (int) (dp * getResources().getDisplayMetrics().density);
+    }
+
     private void setupScrollEffect() {
         appBarLayout.addOnOffsetChangedListener(new AppBarLayout.OnOffsetChangedListener() {
             @Override
@@ -304,17 +743,25 @@ public class MainActivity extends AppCompatActivity {
         Log.d(TAG, "onResume called");
         setupStatusBar();
 
+        // 현재 검색어/속성 필터를 유지한 채 최신 스냅샷 반영 (변경이 없으면 diff 결과도 없음)
         if (adapter != null) {
-            adapter.updateMenuData(dataManager.getMenuList());
+            refreshMenuList();
         }
     }
 
     @Override
     protected void onDestroy() {
+        if (memoryGovernor != null) {
+            memoryGovernor.removeListener(memoryListener);
+        }
         // AdMob 헬퍼를 통한 광고 정리
         if (adMobHelper != null) {
             adMobHelper.onDestroy();
         }
+        if (thumbnailPreloader != null) {
+            thumbnailPreloader.cancelAll();
+        }
+        menuSearcher.shutdown();
         super.onDestroy();
     }
 
@@ -332,139 +779,527 @@ public class MainActivity extends AppCompatActivity {
         layoutHelper = new ResponsiveLayoutHelper(this);
         Log.d(TAG, layoutHelper.getDebugInfo());
 
-        GridLayoutManager layoutManager =
-                (GridLayoutManager) recyclerView.getLayoutManager();
-        int scrollPosition;
-        if (layoutManager != null) {
-            scrollPosition = layoutManager.findFirstVisibleItemPosition();
-        } else {
-            scrollPosition = 0;
-        }
-
-        setupGridLayout();
-
+        // 이후 바인딩되는 썸네일부터 새 크기로 디코딩 (이미 표시된 썸네일은 다시 받지 않음)
         if (adapter != null) {
-            adapter.notifyDataSetChanged();
-
-            recyclerView.post(() -> {
-                GridLayoutManager glm =
-                        (GridLayoutManager) recyclerView.getLayoutManager();
-                if (glm != null) {
-                    glm.scrollToPositionWithOffset(scrollPosition, 0);
-                }
-            });
+            adapter.applyThumbnailProfile(this, layoutHelper);
         }
 
+        updateGridLayout();
+
         // AdMob 헬퍼를 통한 광고 크기 재조정
         if (adMobHelper != null) {
-            adMobHelper.onConfigurationChanged();
+            adMobHelper.onConfigurationChanged(layoutHelper);
         }
     }
 
-    // MenuAdapter - 변경 없음
-    public static class MenuAdapter extends RecyclerView.Adapter<MenuAdapter.MenuViewHolder> {
-        private List<MenuItem> menuItems;
+    // MenuAdapter - DiffUtil 기반 부분 갱신
+    public static class MenuAdapter extends RecyclerView.Adapter<MenuAdapter.MenuViewHolder>
+            implements SectionSpanSizeLookup.Sections {
+        // 부분 갱신 payload 플래그
+        static final int PAYLOAD_TITLE = 1;
+        static final int PAYLOAD_ICON = 1 << 1;
+
+        // 뷰 타입
+        static final int VIEW_TYPE_ITEM = 0;
+        static final int VIEW_TYPE_SECTION_HEADER = 1;
+
+        private final AsyncListDiffer<Row> differ;
         private OnMenuClickListener clickListener;
 
+        // 종류(kind)별 섹션 헤더 사용 여부와 헤더를 전체 폭으로 배치하는 SpanSizeLookup
+        private boolean sectioned = false;
+        private final SectionSpanSizeLookup spanSizeLookup = new SectionSpanSizeLookup(this, 1);
+
+        // 공통 옵션: 크롭은 ImageView(scaleType=centerCrop)가 그릴 때 담당하고
+        // 디코딩은 타깃 크기를 덮는 최소 크기로만 수행 (Bitmap 변환 없음 → 하드웨어 Bitmap 사용 가능)
+        // dontTransform: into(ImageView)가 scaleType에 따라 optionalCenterCrop을 덧붙이지 않도록 해
+        // 바인딩과 preload()/thumbnail() 요청이 같은 메모리 캐시 키를 사용
         private static final RequestOptions GLIDE_OPTIONS = new RequestOptions()
-                .centerCrop()
+                .dontTransform()
+                .downsample(DownsampleStrategy.CENTER_OUTSIDE)
                 .placeholder(R.drawable.placeholder_photo)
                 .error(R.drawable.placeholder_photo)
                 .diskCacheStrategy(DiskCacheStrategy.AUTOMATIC)
                 .timeout(10000);
 
+        // 현재 ScreenType에 맞춘 썸네일 디코딩 옵션
+        private RequestOptions thumbnailOptions = GLIDE_OPTIONS;
+
+        // 마지막으로 그리드에 적용된 썸네일 옵션 - 상세 화면이 같은 캐시 키로 썸네일을 재사용
+        private static volatile RequestOptions gridThumbnailOptions = GLIDE_OPTIONS;
+
+        // 바인딩 결과 확인용 리스너 (ThumbnailPreloader 프리로드 적중 집계)
+        private RequestListener<Drawable> bindRequestListener;
+
+        // 제출한 목록이 반영된 뒤 알림 (ThumbnailPreloader 프리로드 경계 초기화)
+        private Runnable listChangedListener;
+
+        // 첫 썸네일 표시 알림 (한 번만 호출)
+        private Runnable firstThumbnailShownListener;
+        private final RequestListener<Drawable> firstThumbnailRequestListener = new RequestListener<Drawable>() {
+            @Override
+            public boolean onLoadFailed(@Nullable GlideException e, Object model,
+                                        @NonNull Target<Drawable> target, boolean isFirstResource) {
+                return false;
+            }
+
+            @Override
+            public boolean onResourceReady(@NonNull Drawable resource, @NonNull Object model,
+                                           Target<Drawable> target, @NonNull DataSource dataSource,
+                                           boolean isFirstResource) {
+                Runnable listener = firstThumbnailShownListener;
+                if (listener != null) {
+                    firstThumbnailShownListener = null;
+                    // 리소스가 타깃에 설정된 다음 프레임에서 알림
+                    if (target instanceof ImageViewTarget) {
+                        ((ImageViewTarget<?>) target).getView().post(listener);
+                    } else {
+                        listener.run();
+                    }
+                }
+                return false;
+            }
+        };
+
         public interface OnMenuClickListener {
             void onMenuClick(MenuItem menuItem, int position);
         }
 
+        /**
+         * 제출 시점의 MenuItem 표시 상태
+         * 아이콘이 갱신되면 MenuItem 사본이 새 카탈로그로 교체되므로 id 기준으로 같은 행을 찾고 표시 값으로 비교
+         * 섹션 헤더 행은 item이 null이고 title에 kind를 보관
+         */
+        static final class Row {
+            final int viewType;
+            final MenuItem item;
+            final String id;
+            final String title;
+            final String iconUrl;
+            final String iconVersion;
+            final Key signature; // 바인딩마다 새로 만들지 않도록 스냅샷에 보관
+
+            Row(MenuItem item) {
+                this.viewType = VIEW_TYPE_ITEM;
+                this.item = item;
+                this.id = item.id;
+                this.title = item.title;
+                this.iconUrl = item.iconUrl;
+                this.iconVersion = item.iconVersion;
+                this.signature = IconSignatures.of(item);
+            }
+
+            // 섹션 헤더
+            Row(String kind) {
+                this.viewType = VIEW_TYPE_SECTION_HEADER;
+                this.item = null;
+                this.id = "section:" + kind;
+                this.title = kind;
+                this.iconUrl = null;
+                this.iconVersion = null;
+                this.signature = null;
+            }
+        }
+
+        private static final DiffUtil.ItemCallback<Row> DIFF_CALLBACK = new DiffUtil.ItemCallback<Row>() {
+            @Override
+            public boolean areItemsTheSame(@NonNull Row oldRow, @NonNull Row newRow) {
+                return Objects.equals(oldRow.id, newRow.id);
+            }
+
+            @Override
+            public boolean areContentsTheSame(@NonNull Row oldRow, @NonNull Row newRow) {
+                return Objects.equals(oldRow.title, newRow.title)
+                        && Objects.equals(oldRow.iconUrl, newRow.iconUrl)
+                        && Objects.equals(oldRow.iconVersion, newRow.iconVersion);
+            }
+
+            @Override
+            public Object getChangePayload(@NonNull Row oldRow, @NonNull Row newRow) {
+                int flags = 0;
+                if (!Objects.equals(oldRow.title, newRow.title)) {
+                    flags |= PAYLOAD_TITLE;
+                }
+                if (!Objects.equals(oldRow.iconUrl, newRow.iconUrl)
+                        || !Objects.equals(oldRow.iconVersion, newRow.iconVersion)) {
+                    flags |= PAYLOAD_ICON;
+                }
+                return flags;
+            }
+        };
+
         public MenuAdapter(List<MenuItem> menuItems) {
-            this.menuItems = menuItems;
+            this(menuItems, false);
+        }
+
+        public MenuAdapter(List<MenuItem> menuItems, boolean sectioned) {
+            this.sectioned = sectioned;
+            this.differ = new AsyncListDiffer<>(this, DIFF_CALLBACK);
+            // 목록이 바뀌면 헤더 배치가 처음 달라진 위치부터만 span 캐시 무효화
+            differ.addListListener((previous, current) -> {
+                spanSizeLookup.invalidateFrom(firstLayoutChange(previous, current));
+                if (listChangedListener != null) {
+                    listChangedListener.run();
+                }
+            });
+            differ.submitList(toRows(menuItems));
+        }
+
+        /**
+         * 헤더/아이템 배치가 처음 달라지는 위치 (그 앞의 행 배치는 동일)
+         */
+        private static int firstLayoutChange(List<Row> previous, List<Row> current) {
+            int count = Math.min(previous.size(), current.size());
+            for (int i = 0; i < count; i++) {
+                if (previous.get(i).viewType != current.get(i).viewType) {
+                    return i;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * 섹션 모드면 kind별로 묶고(처음 나온 순서 유지) 각 묶음 앞에 헤더 행 추가
+         */
+        private List<Row> toRows(List<MenuItem> menuItems) {
+            if (!sectioned) {
+                List<Row> rows = new ArrayList<>(menuItems.size());
+                for (MenuItem item : menuItems) {
+                    rows.add(new Row(item));
+                }
+                return rows;
+            }
+
+            Map<String, List<MenuItem>> groups = new LinkedHashMap<>();
+            for (MenuItem item : menuItems) {
+                String kind = item.kind != null ? item.kind : "";
+                List<MenuItem> group = groups.get(kind);
+                if (group == null) {
+                    group = new ArrayList<>();
+                    groups.put(kind, group);
+                }
+                group.add(item);
+            }
+
+            List<Row> rows = new ArrayList<>(menuItems.size() + groups.size());
+            for (Map.Entry<String, List<MenuItem>> entry : groups.entrySet()) {
+                rows.add(new Row(entry.getKey()));
+                for (MenuItem item : entry.getValue()) {
+                    rows.add(new Row(item));
+                }
+            }
+            return rows;
+        }
+
+        private List<MenuItem> currentItems() {
+            List<Row> rows = differ.getCurrentList();
+            List<MenuItem> items = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                if (row.item != null) {
+                    items.add(row.item);
+                }
+            }
+            return items;
+        }
+
+        /**
+         * 종류별 섹션 헤더 표시 여부 - 현재 목록을 다시 제출해 헤더 행만 추가/제거
+         */
+        public void setSectioned(boolean sectioned) {
+            if (this.sectioned != sectioned) {
+                this.sectioned = sectioned;
+                updateMenuData(currentItems());
+            }
+        }
+
+        public boolean isSectioned() {
+            return sectioned;
+        }
+
+        /**
+         * GridLayoutManager에 설정할 SpanSizeLookup (spanCount 변경 시 setSpanCount도 함께 호출)
+         */
+        public SectionSpanSizeLookup getSpanSizeLookup() {
+            return spanSizeLookup;
+        }
+
+        @Override
+        public boolean isSectionHeader(int position) {
+            return differ.getCurrentList().get(position).viewType == VIEW_TYPE_SECTION_HEADER;
         }
 
         public void setOnMenuClickListener(OnMenuClickListener listener) {
             this.clickListener = listener;
         }
 
+        public void setOnFirstThumbnailShownListener(Runnable listener) {
+            this.firstThumbnailShownListener = listener;
+        }
+
+        public void setBindRequestListener(RequestListener<Drawable> listener) {
+            this.bindRequestListener = listener;
+        }
+
+        public void setOnListChangedListener(Runnable listener) {
+            this.listChangedListener = listener;
+        }
+
+        /**
+         * 현재 화면 타입의 썸네일 크기(70/90/110dp)로 디코딩 프로파일 설정
+         */
+        public void applyThumbnailProfile(Context context, ResponsiveLayoutHelper layoutHelper) {
+            thumbnailOptions = createThumbnailOptions(context, layoutHelper);
+            gridThumbnailOptions = thumbnailOptions;
+        }
+
+        /**
+         * 그리드 바인딩에 쓰인 것과 같은 썸네일 옵션 (회전/멀티윈도우 후에도 그리드 기준)
+         */
+        static RequestOptions getGridThumbnailOptions() {
+            return gridThumbnailOptions;
+        }
+
+        /**
+         * 썸네일 디코딩 옵션 생성
+         * - 화면 타입별 정확한 픽셀 크기로 디코딩
+         * - 하드웨어 Bitmap 우선 (픽셀 데이터가 Java 힙에 올라가지 않음)
+         * - 하드웨어 Bitmap을 쓸 수 없으면 RGB_565 (투명도 없는 이미지 기준 메모리 절반)
+         */
+        static RequestOptions createThumbnailOptions(Context context, ResponsiveLayoutHelper layoutHelper) {
+            ResponsiveLayoutHelper.ThumbnailSize size = layoutHelper.getOptimalThumbnailSize();
+            float density = context.getResources().getDisplayMetrics().density;
+            int widthPx = Math.round(size.width * density);
+            int heightPx = Math.round(size.height * density);
+
+            return GLIDE_OPTIONS
+                    .override(widthPx, heightPx)
+                    .format(DecodeFormat.PREFER_RGB_565)
+                    .set(Downsampler.ALLOW_HARDWARE_CONFIG,
+                            Build.VERSION.SDK_INT >= Build.VERSION_CODES.O);
+        }
+
+        /**
+         * 새 메뉴 목록 제출 - diff는 백그라운드에서 계산되고 변경된 범위만 갱신됨
+         */
         public void updateMenuData(List<MenuItem> newMenuItems) {
-            this.menuItems = newMenuItems;
-            notifyDataSetChanged();
+            differ.submitList(toRows(newMenuItems));
         }
 
         public void addMenuItem(MenuItem menuItem) {
-            menuItems.add(menuItem);
-            notifyItemInserted(menuItems.size() - 1);
+            List<MenuItem> items = currentItems();
+            items.add(menuItem);
+            updateMenuData(items);
         }
 
         public void addMenuItems(List<MenuItem> newMenuItems) {
-            int startPosition = menuItems.size();
-            menuItems.addAll(newMenuItems);
-            notifyItemRangeInserted(startPosition, newMenuItems.size());
+            List<MenuItem> items = currentItems();
+            items.addAll(newMenuItems);
+            updateMenuData(items);
         }
 
         public void removeMenuItem(int position) {
-            if (position >= 0 && position < menuItems.size()) {
-                menuItems.remove(position);
-                notifyItemRemoved(position);
+            List<Row> rows = differ.getCurrentList();
+            if (position >= 0 && position < rows.size() && rows.get(position).item != null) {
+                List<MenuItem> items = currentItems();
+                items.remove(rows.get(position).item);
+                updateMenuData(items);
             }
         }
 
+        /**
+         * @return 섹션 헤더 위치이면 null
+         */
+        public MenuItem getMenuItem(int position) {
+            return differ.getCurrentList().get(position).item;
+        }
+
+        @Override
+        public int getItemViewType(int position) {
+            return differ.getCurrentList().get(position).viewType;
+        }
+
         @NonNull
         @Override
         public MenuViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+            if (viewType == VIEW_TYPE_SECTION_HEADER) {
+                View view = LayoutInflater.from(parent.getContext())
+                        .inflate(R.layout.menu_section_header, parent, false);
+                return new SectionHeaderViewHolder(view);
+            }
+
             View view = LayoutInflater.from(parent.getContext())
                     .inflate(R.layout.menu_item, parent, false);
-            return new MenuViewHolder(view);
+            MenuViewHolder holder = new MenuViewHolder(view);
+
+            holder.itemView.setOnClickListener(v -> {
+                int position = holder.getBindingAdapterPosition();
+                if (clickListener != null && position != RecyclerView.NO_POSITION) {
+                    clickListener.onMenuClick(getMenuItem(position), position);
+                }
+            });
+
+            // 터치 다운 시 상세 이미지 선행 로드, 스크롤로 전환되면(CANCEL) 취소
+            holder.itemView.setOnTouchListener((v, event) -> {
+                switch (event.getActionMasked()) {
+                    case MotionEvent.ACTION_DOWN:
+                        startDetailPrefetch(holder);
+                        break;
+                    case MotionEvent.ACTION_CANCEL:
+                        cancelDetailPrefetch(holder);
+                        break;
+                    default:
+                        break;
+                }
+                return false; // 클릭/리플 처리는 그대로 진행
+            });
+            return holder;
+        }
+
+        private void startDetailPrefetch(MenuViewHolder holder) {
+            int position = holder.getBindingAdapterPosition();
+            if (position == RecyclerView.NO_POSITION) {
+                return;
+            }
+            cancelDetailPrefetch(holder);
+
+            Context context = holder.itemView.getContext();
+            RequestBuilder<Drawable> request = SampleActivity.buildDetailRequest(
+                    context, Glide.with(context), getMenuItem(position));
+            if (request != null) {
+                holder.detailPrefetch = request.preload();
+            }
+        }
+
+        private void cancelDetailPrefetch(MenuViewHolder holder) {
+            if (holder.detailPrefetch != null) {
+                Glide.with(holder.itemView.getContext()).clear(holder.detailPrefetch);
+                holder.detailPrefetch = null;
+            }
         }
 
         @Override
         public void onBindViewHolder(@NonNull MenuViewHolder holder, int position) {
-            MenuItem menuItem = menuItems.get(position);
+            if (holder instanceof SectionHeaderViewHolder) {
+                ((SectionHeaderViewHolder) holder).sectionTitle
+                        .setText(differ.getCurrentList().get(position).title);
+                return;
+            }
+            MenuItem menuItem = getMenuItem(position);
+            bindTitle(holder, menuItem);
+            bindImage(holder, position);
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull MenuViewHolder holder, int position,
+                                     @NonNull List<Object> payloads) {
+            if (payloads.isEmpty() || holder instanceof SectionHeaderViewHolder) {
+                onBindViewHolder(holder, position);
+                return;
+            }
 
+            int flags = 0;
+            for (Object payload : payloads) {
+                if (payload instanceof Integer) {
+                    flags |= (Integer) payload;
+                }
+            }
+
+            MenuItem menuItem = getMenuItem(position);
+            if ((flags & PAYLOAD_TITLE) != 0) {
+                bindTitle(holder, menuItem);
+            }
+            if ((flags & PAYLOAD_ICON) != 0) {
+                bindImage(holder, position);
+            }
+        }
+
+        private void bindTitle(MenuViewHolder holder, MenuItem menuItem) {
             if (holder.photoTitle != null) {
                 holder.photoTitle.setText(menuItem.getTitle());
             }
+        }
 
-            long cacheKey = System.currentTimeMillis() / 300_000;
+        private void bindImage(MenuViewHolder holder, int position) {
+            RequestManager requestManager = Glide.with(holder.itemView.getContext());
+            RequestBuilder<Drawable> request = buildThumbnailRequest(requestManager, position);
 
-            if (menuItem.getIconUrl() != null && !menuItem.getIconUrl().isEmpty()) {
-                Glide.with(holder.itemView.getContext())
-                        .load(menuItem.getIconUrl())
-                        .apply(GLIDE_OPTIONS)
-                        .signature(new ObjectKey(cacheKey))
-                        .into(holder.photoImage);
-            } else if (menuItem.getIcon() != 0) {
-                Glide.with(holder.itemView.getContext())
-                        .load(menuItem.getIcon())
-                        .apply(GLIDE_OPTIONS)
-                        .signature(new ObjectKey(cacheKey))
-                        .into(holder.photoImage);
+            if (request != null) {
+                // 첫 썸네일 지표는 네트워크 썸네일만 대상 (로컬 아이콘은 즉시 표시되어 지표를 앞당김)
+                if (firstThumbnailShownListener != null
+                        && getThumbnailModel(position) instanceof String) {
+                    request = request.addListener(firstThumbnailRequestListener);
+                }
+                if (bindRequestListener != null) {
+                    request = request.addListener(bindRequestListener);
+                }
+                request.into(holder.photoImage);
             } else {
-                Glide.with(holder.itemView.getContext())
+                requestManager
                         .load(R.drawable.placeholder_photo)
                         .into(holder.photoImage);
             }
+        }
 
-            holder.itemView.setOnClickListener(v -> {
-                if (clickListener != null) {
-                    clickListener.onMenuClick(menuItem, position);
-                }
-            });
+        /**
+         * buildThumbnailRequest가 로드하는 모델 (URL 또는 로컬 리소스 ID)
+         *
+         * @return 로드할 이미지가 없으면 null
+         */
+        @Nullable
+        Object getThumbnailModel(int position) {
+            Row row = differ.getCurrentList().get(position);
+            if (row.item == null) {
+                return null;
+            }
+            if (row.iconUrl != null && !row.iconUrl.isEmpty()) {
+                return row.iconUrl;
+            }
+            return row.item.getIcon() != 0 ? row.item.getIcon() : null;
+        }
+
+        /**
+         * 그리드 썸네일 요청 생성 (바인딩/프리로드 공통 - 같은 메모리 캐시 키 사용)
+         *
+         * @return 로드할 이미지가 없으면 null
+         */
+        RequestBuilder<Drawable> buildThumbnailRequest(RequestManager requestManager, int position) {
+            Row row = differ.getCurrentList().get(position);
+            MenuItem menuItem = row.item;
+            if (menuItem == null) {
+                return null; // 섹션 헤더
+            }
+
+            if (row.iconUrl != null && !row.iconUrl.isEmpty()) {
+                return requestManager
+                        .load(row.iconUrl)
+                        .apply(thumbnailOptions)
+                        .signature(row.signature);
+            } else if (menuItem.getIcon() != 0) {
+                return requestManager
+                        .load(menuItem.getIcon())
+                        .apply(thumbnailOptions);
+            }
+            return null;
         }
 
         @Override
         public int getItemCount() {
-            return menuItems.size();
+            return differ.getCurrentList().size();
         }
 
         @Override
         public void onViewRecycled(@NonNull MenuViewHolder holder) {
             super.onViewRecycled(holder);
-            Glide.with(holder.itemView.getContext()).clear(holder.photoImage);
+            if (holder.photoImage != null) {
+                Glide.with(holder.itemView.getContext()).clear(holder.photoImage);
+            }
+            cancelDetailPrefetch(holder);
         }
 
         public static class MenuViewHolder extends RecyclerView.ViewHolder {
             TextView photoTitle;
             ImageView photoImage;
+            Target<Drawable> detailPrefetch; // 터치 다운 시 시작한 상세 이미지 프리로드
 
             public MenuViewHolder(@NonNull View itemView) {
                 super(itemView);
@@ -472,17 +1307,27 @@ public class MainActivity extends AppCompatActivity {
                 photoImage = itemView.findViewById(R.id.photoImage);
             }
         }
+
+        /**
+         * 종류(kind) 섹션 헤더 - 전체 폭, 클릭/이미지 없음
+         */
+        public static class SectionHeaderViewHolder extends MenuViewHolder {
+            TextView sectionTitle;
+
+            public SectionHeaderViewHolder(@NonNull View itemView) {
+                super(itemView);
+                sectionTitle = itemView.findViewById(R.id.sectionTitle);
+            }
+        }
     }
 
-    private void loadIconUrlsFromApiAsync(List<MenuItem> list, String endpoint, IconLoadCallback cb) {
-        OkHttpClient client = new OkHttpClient.Builder()
-                .connectTimeout(10, TimeUnit.SECONDS)
-                .readTimeout(15, TimeUnit.SECONDS)
-                .build();
+    private void loadIconUrlsFromApiAsync(String endpoint, IconLoadCallback cb) {
+        // 앱 공유 클라이언트 사용 (연결 풀 / HTTP 캐시 재사용)
+        OkHttpClient client = HttpClientProvider.getClient(this);
 
         Request req = new Request.Builder()
                 .url(endpoint)
-                .header("User-Agent", "WeatherApp(Android)")
+                .header("User-Agent", HttpClientProvider.USER_AGENT)
                 .build();
 
         client.newCall(req).enqueue(new Callback() {
@@ -502,23 +1347,16 @@ public class MainActivity extends AppCompatActivity {
                         if (cb != null) cb.onError(new IOException("Empty body"));
                         return;
                     }
-                    String json = body.string();
-                    JSONObject root = new JSONObject(json);
-                    JSONArray files = root.optJSONArray("files");
-                    if (files != null) {
-                        HashMap<String, String> map = new HashMap<>();
-                        for (int i = 0; i < files.length(); i++) {
-                            JSONObject o = files.getJSONObject(i);
-                            String arg = o.optString("argument", "");
-                            String url = o.optString("url", "");
-                            if (!arg.isEmpty() && !url.isEmpty()) {
-                                map.put(arg, url);
-                            }
-                        }
-                        for (MenuItem vo : list) {
-                            String url = map.get(vo.apiOption);
-                            if (url != null) vo.iconUrl = url;
-                        }
+                    // 스트리밍 파싱으로 URL 표를 만든 뒤 새 카탈로그 스냅샷으로 한 번에 교체
+                    // (게시된 MenuItem은 수정하지 않으므로 UI 스레드 바인딩과 경합 없음)
+                    Map<String, String> urls = new HashMap<>();
+                    Map<String, String> versions = new HashMap<>();
+                    int count = IconManifestReader.readInto(body.byteStream(), urls, versions);
+                    Log.d(TAG, "Icon manifest entries: " + count);
+                    if (count > 0) {
+                        dataManager.applyIconUrls(urls, versions);
+                        // 다음 콜드 스타트에서 즉시 사용할 수 있도록 저장
+                        dataManager.saveIconUrls();
                     }
                     if (cb != null) cb.onLoaded();
                 } catch (Exception e) {
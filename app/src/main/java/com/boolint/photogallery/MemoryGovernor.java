@@ -0,0 +1,189 @@
+package com.boolint.photogallery;
+
+import android.app.Activity;
+import android.app.Application;
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.os.Bundle;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.MemoryCategory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시스템 메모리 신호(onTrimMemory / onLowMemory)에 따라 앱 메모리 사용량을 단계적으로 줄이는 관리자
+ * - Glide 메모리 캐시/비트맵 풀 상한 축소 (즉시 trim은 Glide가 자체 등록한 콜백이 수행)
+ * - 등록된 화면(Listener)이 RecyclerView 뷰 캐시, 광고 뷰, 상세 이미지를 해제
+ * - 앱이 다시 포그라운드로 오면(시작된 Activity 0 → 1) NORMAL로 복원
+ * - 메인 스레드에서만 사용
+ */
+public class MemoryGovernor implements ComponentCallbacks2 {
+    private static final String TAG = "MemoryGovernor";
+
+    /**
+     * 메모리 절약 단계 (뒤로 갈수록 더 많이 해제)
+     */
+    public enum Level {
+        NORMAL,     // 제한 없음
+        REDUCED,    // 포그라운드 메모리 부족 (RUNNING_MODERATE / RUNNING_LOW / RUNNING_CRITICAL) - 보이는 콘텐츠는 유지
+        HIDDEN,     // UI 숨김 (UI_HIDDEN) - 이 단계부터 화면 콘텐츠 해제 가능
+        BACKGROUND, // 백그라운드 LRU 목록 진입 (BACKGROUND)
+        CRITICAL    // 곧 종료될 수 있음 (MODERATE / COMPLETE / onLowMemory)
+    }
+
+    /**
+     * 단계 변경 알림 (등록 시 현재 단계가 NORMAL이 아니면 바로 한 번 호출)
+     */
+    public interface Listener {
+        void onMemoryLevelChanged(@NonNull Level level);
+    }
+
+    private static MemoryGovernor instance;
+
+    private final Context appContext;
+    private final List<Listener> listeners = new ArrayList<>();
+    private Level level = Level.NORMAL;
+    private int startedActivities = 0;
+
+    private MemoryGovernor(Context appContext) {
+        this.appContext = appContext;
+    }
+
+    /**
+     * 프로세스에 한 번 등록 (여러 번 호출해도 같은 인스턴스)
+     * Activity onCreate에서 호출해야 해당 Activity의 onStart부터 포그라운드 복귀를 추적
+     */
+    public static MemoryGovernor install(Context context) {
+        if (instance == null) {
+            Application application = (Application) context.getApplicationContext();
+            instance = new MemoryGovernor(application);
+            application.registerComponentCallbacks(instance);
+            application.registerActivityLifecycleCallbacks(instance.foregroundTracker);
+        }
+        return instance;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public void addListener(Listener listener) {
+        if (!listeners.contains(listener)) {
+            listeners.add(listener);
+        }
+        if (level != Level.NORMAL) {
+            listener.onMemoryLevelChanged(level);
+        }
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void onTrimMemory(int trimLevel) {
+        Level newLevel = toLevel(trimLevel);
+        Log.d(TAG, "onTrimMemory: " + trimLevel + " -> " + newLevel);
+        // 포그라운드 복귀 전까지는 더 높은 단계로만 이동
+        if (newLevel.compareTo(level) > 0) {
+            setLevel(newLevel);
+        }
+    }
+
+    @Override
+    public void onLowMemory() {
+        Log.d(TAG, "onLowMemory");
+        setLevel(Level.CRITICAL);
+    }
+
+    @Override
+    public void onConfigurationChanged(@NonNull Configuration newConfig) {
+    }
+
+    @SuppressWarnings("deprecation") // RUNNING_* / MODERATE / COMPLETE는 API 34부터 전달되지 않음
+    static Level toLevel(int trimLevel) {
+        if (trimLevel >= TRIM_MEMORY_MODERATE) {
+            return Level.CRITICAL;
+        } else if (trimLevel >= TRIM_MEMORY_BACKGROUND) {
+            return Level.BACKGROUND;
+        } else if (trimLevel >= TRIM_MEMORY_UI_HIDDEN) {
+            return Level.HIDDEN;
+        } else if (trimLevel >= TRIM_MEMORY_RUNNING_MODERATE) {
+            return Level.REDUCED; // RUNNING_*: 앱이 아직 보이는 상태 (API 26~33에서 전달)
+        }
+        return Level.NORMAL;
+    }
+
+    private void setLevel(Level newLevel) {
+        if (newLevel == level) {
+            return;
+        }
+        level = newLevel;
+        Glide glide = Glide.get(appContext);
+        glide.setMemoryCategory(toMemoryCategory(newLevel));
+        if (newLevel == Level.CRITICAL) {
+            // 상한 축소만으로는 부족한 단계 - 메모리 캐시/비트맵 풀을 모두 비움
+            glide.clearMemory();
+        }
+
+        for (Listener listener : new ArrayList<>(listeners)) {
+            listener.onMemoryLevelChanged(newLevel);
+        }
+        Log.d(TAG, "Memory level: " + newLevel);
+    }
+
+    /**
+     * Glide 메모리 캐시/비트맵 풀 크기 배율 (LOW 0.5, NORMAL 1.0)
+     * 축소 시 초과분은 Glide가 바로 해제
+     * Glide에는 LOW보다 작은 배율이 없으므로 REDUCED 이후는 모두 LOW이고, 그 이상은 단계별로 해제
+     * - HIDDEN / BACKGROUND: Glide가 자체 등록한 onTrimMemory 콜백이 절반 축소 / 전체 비움 수행
+     * - CRITICAL: setLevel에서 clearMemory (onLowMemory 및 API 34+처럼 trim 단계가 오지 않는 경우 포함)
+     */
+    private static MemoryCategory toMemoryCategory(Level level) {
+        return level == Level.NORMAL ? MemoryCategory.NORMAL : MemoryCategory.LOW;
+    }
+
+    // 시작된 Activity 수로 포그라운드 복귀 감지
+    private final Application.ActivityLifecycleCallbacks foregroundTracker =
+            new Application.ActivityLifecycleCallbacks() {
+                @Override
+                public void onActivityStarted(@NonNull Activity activity) {
+                    if (startedActivities++ == 0 && level != Level.NORMAL) {
+                        Log.d(TAG, "Foreground - restoring from " + level);
+                        setLevel(Level.NORMAL);
+                    }
+                }
+
+                @Override
+                public void onActivityStopped(@NonNull Activity activity) {
+                    startedActivities = Math.max(0, startedActivities - 1);
+                }
+
+                @Override
+                public void onActivityCreated(@NonNull Activity activity, @Nullable Bundle savedInstanceState) {
+                }
+
+                @Override
+                public void onActivityResumed(@NonNull Activity activity) {
+                }
+
+                @Override
+                public void onActivityPaused(@NonNull Activity activity) {
+                }
+
+                @Override
+                public void onActivitySaveInstanceState(@NonNull Activity activity, @NonNull Bundle outState) {
+                }
+
+                @Override
+                public void onActivityDestroyed(@NonNull Activity activity) {
+                }
+            };
+}
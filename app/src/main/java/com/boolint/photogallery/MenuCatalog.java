@@ -0,0 +1,187 @@
+package com.boolint.photogallery;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메뉴 목록의 불변 스냅샷
+ * - 목록은 수정 불가 뷰로만 노출 (호출 측에서 복사할 필요 없음)
+ * - id / apiOption / kind 해시 인덱스로 O(1) 조회
+ * - 변경 시에는 새 스냅샷을 만들어 교체 (copy-on-write)
+ * - 스냅샷에 들어간 MenuItem도 수정하지 않음 (아이콘 갱신은 withIcons로 사본 생성)
+ */
+public final class MenuCatalog {
+
+    public static final MenuCatalog EMPTY = new MenuCatalog(Collections.emptyList());
+
+    private final List<MenuItem> items;
+    private final Map<String, MenuItem> byId;
+    private final Map<String, List<MenuItem>> byApiOption;
+    private final Map<String, List<MenuItem>> byKind;
+
+    public MenuCatalog(List<MenuItem> source) {
+        List<MenuItem> copy = new ArrayList<>(source);
+        int capacity = Math.max(16, copy.size() * 2);
+
+        Map<String, MenuItem> idIndex = new HashMap<>(capacity);
+        Map<String, List<MenuItem>> apiOptionIndex = new HashMap<>(capacity);
+        Map<String, List<MenuItem>> kindIndex = new HashMap<>();
+
+        for (MenuItem vo : copy) {
+            if (vo.id != null && !idIndex.containsKey(vo.id)) {
+                idIndex.put(vo.id, vo);
+            }
+            addToIndex(apiOptionIndex, vo.apiOption, vo);
+            addToIndex(kindIndex, vo.kind, vo);
+        }
+
+        this.items = Collections.unmodifiableList(copy);
+        this.byId = idIndex;
+        this.byApiOption = freeze(apiOptionIndex);
+        this.byKind = freeze(kindIndex);
+    }
+
+    private static void addToIndex(Map<String, List<MenuItem>> index, String key, MenuItem vo) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        List<MenuItem> list = index.get(key);
+        if (list == null) {
+            list = new ArrayList<>(1);
+            index.put(key, list);
+        }
+        list.add(vo);
+    }
+
+    private static Map<String, List<MenuItem>> freeze(Map<String, List<MenuItem>> index) {
+        for (Map.Entry<String, List<MenuItem>> entry : index.entrySet()) {
+            entry.setValue(Collections.unmodifiableList(entry.getValue()));
+        }
+        return index;
+    }
+
+    /**
+     * 전체 메뉴 목록 (수정 불가)
+     */
+    public List<MenuItem> getItems() {
+        return items;
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    public MenuItem get(int position) {
+        if (position >= 0 && position < items.size()) {
+            return items.get(position);
+        }
+        return null;
+    }
+
+    public MenuItem findById(String id) {
+        return id != null ? byId.get(id) : null;
+    }
+
+    /**
+     * apiOption이 일치하는 메뉴 (같은 apiOption을 여러 메뉴가 공유할 수 있음)
+     */
+    public List<MenuItem> findByApiOption(String apiOption) {
+        List<MenuItem> list = apiOption != null ? byApiOption.get(apiOption) : null;
+        return list != null ? list : Collections.emptyList();
+    }
+
+    public List<MenuItem> findByKind(String kind) {
+        List<MenuItem> list = kind != null ? byKind.get(kind) : null;
+        return list != null ? list : Collections.emptyList();
+    }
+
+    /**
+     * 위치 집합에 해당하는 항목 목록 (카탈로그 순서 유지)
+     *
+     * @param positions 항목 위치 (null이면 전체)
+     */
+    public List<MenuItem> select(BitSet positions) {
+        if (positions == null) {
+            return items;
+        }
+        List<MenuItem> result = new ArrayList<>(positions.cardinality());
+        for (int i = positions.nextSetBit(0); i >= 0 && i < items.size(); i = positions.nextSetBit(i + 1)) {
+            result.add(items.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 항목을 추가한 새 스냅샷 반환
+     */
+    public MenuCatalog plus(List<MenuItem> added) {
+        List<MenuItem> list = new ArrayList<>(items.size() + added.size());
+        list.addAll(items);
+        list.addAll(added);
+        return new MenuCatalog(list);
+    }
+
+    /**
+     * apiOption별 아이콘 URL/버전을 적용한 새 스냅샷 반환
+     * - 매니페스트 항목만 순회하고 apiOption 인덱스로 대상 메뉴를 찾음
+     * - 값이 바뀐 항목만 사본으로 교체하고 나머지 MenuItem은 그대로 공유
+     * - 바뀐 항목이 없으면 this 반환
+     *
+     * @param urls     apiOption → 아이콘 URL
+     * @param versions apiOption → 버전 (없으면 빈 문자열)
+     */
+    public MenuCatalog withIcons(Map<String, String> urls, Map<String, String> versions) {
+        Map<MenuItem, MenuItem> replaced = null;
+        for (Map.Entry<String, String> entry : urls.entrySet()) {
+            List<MenuItem> targets = entry.getKey() != null ? byApiOption.get(entry.getKey()) : null;
+            String url = entry.getValue();
+            if (targets == null || url == null) {
+                continue;
+            }
+            String version = versions.get(entry.getKey());
+            if (version == null) {
+                version = "";
+            }
+            for (MenuItem vo : targets) {
+                if (url.equals(vo.iconUrl) && version.equals(vo.iconVersion)) {
+                    continue;
+                }
+                if (replaced == null) {
+                    replaced = new IdentityHashMap<>();
+                }
+                replaced.put(vo, vo.withIcon(url, version));
+            }
+        }
+        if (replaced == null) {
+            return this;
+        }
+
+        List<MenuItem> list = new ArrayList<>(items.size());
+        for (MenuItem vo : items) {
+            MenuItem copy = replaced.get(vo);
+            list.add(copy != null ? copy : vo);
+        }
+        return new MenuCatalog(list);
+    }
+
+    /**
+     * 지정 위치 항목을 제거한 새 스냅샷 반환
+     */
+    public MenuCatalog minus(int position) {
+        if (position < 0 || position >= items.size()) {
+            return this;
+        }
+        List<MenuItem> list = new ArrayList<>(items);
+        list.remove(position);
+        return new MenuCatalog(list);
+    }
+}
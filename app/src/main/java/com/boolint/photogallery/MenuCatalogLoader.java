@@ -0,0 +1,83 @@
+package com.boolint.photogallery;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 빌드 시 생성된 MenuCatalogTable(원본: src/main/catalog/menu_catalog.csv) 형식의 청크에서 MenuItem 목록 생성
+ * - 열 순서는 COLUMNS 헤더 기준으로 매핑하므로 CSV 열 순서가 바뀌어도 무관
+ * - 안드로이드/생성 클래스에 의존하지 않으므로 JVM(:microbenchmark)에서도 그대로 실행 가능
+ */
+public final class MenuCatalogLoader {
+
+    // 청크 구분 문자 (app/build.gradle.kts의 GenerateMenuCatalogTask와 동일해야 함)
+    public static final char FIELD_SEPARATOR = '\037';
+    public static final char ROW_SEPARATOR = '\036';
+
+    private MenuCatalogLoader() {
+    }
+
+    /**
+     * 카탈로그 테이블로 메뉴 목록 생성
+     *
+     * @param columns     헤더 (열 이름)
+     * @param chunks      ROW_SEPARATOR로 행을, FIELD_SEPARATOR로 열을 이은 문자열들
+     * @param rowCount    전체 행 수 (목록 용량)
+     * @param defaultIcon 모든 메뉴에 지정할 기본 아이콘 리소스
+     */
+    public static List<MenuItem> load(String[] columns, String[] chunks, int rowCount, int defaultIcon) {
+        List<MenuItem> list = new ArrayList<>(rowCount);
+        for (String chunk : chunks) {
+            int rowStart = 0;
+            while (rowStart <= chunk.length()) {
+                int rowEnd = chunk.indexOf(ROW_SEPARATOR, rowStart);
+                if (rowEnd < 0) {
+                    rowEnd = chunk.length();
+                }
+                if (rowEnd > rowStart) {
+                    list.add(parseRow(columns, chunk, rowStart, rowEnd, defaultIcon));
+                }
+                rowStart = rowEnd + 1;
+            }
+        }
+        return list;
+    }
+
+    private static MenuItem parseRow(String[] columns, String chunk, int start, int end, int defaultIcon) {
+        String[] values = new String[columns.length];
+        int fieldStart = start;
+        for (int i = 0; i < columns.length; i++) {
+            int fieldEnd = i == columns.length - 1
+                    ? end
+                    : chunk.indexOf(FIELD_SEPARATOR, fieldStart);
+            if (fieldEnd < 0 || fieldEnd > end) {
+                fieldEnd = end;
+            }
+            values[i] = chunk.substring(fieldStart, fieldEnd);
+            fieldStart = Math.min(fieldEnd + 1, end);
+        }
+
+        MenuItem vo = new MenuItem(valueOf(columns, values, "actType"));
+        vo.id = valueOf(columns, values, "id");
+        vo.title = valueOf(columns, values, "title");
+        vo.kind = valueOf(columns, values, "kind");
+        vo.data0 = valueOf(columns, values, "data0");
+        vo.area0 = valueOf(columns, values, "area0");
+        vo.data1 = valueOf(columns, values, "data1");
+        vo.area1 = valueOf(columns, values, "area1");
+        vo.data2 = valueOf(columns, values, "data2");
+        vo.area2 = valueOf(columns, values, "area2");
+        vo.apiOption = valueOf(columns, values, "apiOption");
+        vo.icon = defaultIcon;
+        return vo;
+    }
+
+    private static String valueOf(String[] columns, String[] values, String column) {
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i].equals(column)) {
+                return values[i];
+            }
+        }
+        return "";
+    }
+}
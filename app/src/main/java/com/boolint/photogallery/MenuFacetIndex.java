@@ -0,0 +1,118 @@
+package com.boolint.photogallery;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 메뉴 속성별 비트셋 색인 (MenuCatalog 스냅샷 하나에 대응하는 불변 객체)
+ * - 속성 값마다 해당 항목 위치의 BitSet을 보관
+ * - 같은 속성 안의 값은 OR, 속성 사이는 AND로 결합 (예: kind=radar|rad+inf AND area=ko)
+ * - 질의는 비트 연산만으로 처리되므로 항목 수와 무관하게 즉시 응답
+ */
+public final class MenuFacetIndex {
+
+    public enum Facet {
+        KIND,       // satellite, radar, typhoon, ...
+        AREA,       // 영역 코드 area1 (ko, ea, fd) - area0는 영상별 세부 코드(ko020lc 등)라 섞으면 값이 중복되어 보임
+        ACT_TYPE    // MAP, SUB, IMG, IMGS
+    }
+
+    private final MenuCatalog catalog;
+    private final Map<Facet, Map<String, BitSet>> index;
+
+    private MenuFacetIndex(MenuCatalog catalog, Map<Facet, Map<String, BitSet>> index) {
+        this.catalog = catalog;
+        this.index = index;
+    }
+
+    /**
+     * 스냅샷으로 색인 생성 (항목 수에 비례)
+     */
+    public static MenuFacetIndex build(MenuCatalog catalog) {
+        Map<Facet, Map<String, BitSet>> index = new EnumMap<>(Facet.class);
+        for (Facet facet : Facet.values()) {
+            index.put(facet, new LinkedHashMap<>());
+        }
+
+        List<MenuItem> items = catalog.getItems();
+        for (int position = 0; position < items.size(); position++) {
+            MenuItem vo = items.get(position);
+            add(index.get(Facet.KIND), vo.kind, position);
+            add(index.get(Facet.AREA), vo.area1, position);
+            add(index.get(Facet.ACT_TYPE), vo.actType, position);
+        }
+
+        for (Map.Entry<Facet, Map<String, BitSet>> entry : index.entrySet()) {
+            entry.setValue(Collections.unmodifiableMap(entry.getValue()));
+        }
+        return new MenuFacetIndex(catalog, index);
+    }
+
+    private static void add(Map<String, BitSet> values, String value, int position) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        BitSet bits = values.get(value);
+        if (bits == null) {
+            bits = new BitSet();
+            values.put(value, bits);
+        }
+        bits.set(position);
+    }
+
+    /**
+     * 색인 대상 스냅샷 (DataManager가 스냅샷 교체 여부 확인에 사용)
+     */
+    public MenuCatalog getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * 속성의 값 목록 (카탈로그 등장 순)
+     */
+    public Set<String> getValues(Facet facet) {
+        return index.get(facet).keySet();
+    }
+
+    /**
+     * 질의와 일치하는 항목 위치 (새 BitSet - 호출 측에서 수정 가능)
+     *
+     * @return 일치 위치 (질의가 비어 있으면 null - 전체)
+     */
+    public BitSet match(MenuFacetQuery query) {
+        BitSet result = null;
+        for (Facet facet : Facet.values()) {
+            Set<String> selected = query.getSelected(facet);
+            if (selected.isEmpty()) {
+                continue;
+            }
+            BitSet any = anyOf(facet, selected);
+            if (result == null) {
+                result = any;
+            } else {
+                result.and(any);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 값 중 하나라도 일치 (OR)
+     */
+    public BitSet anyOf(Facet facet, Set<String> values) {
+        Map<String, BitSet> facetIndex = index.get(facet);
+        BitSet result = new BitSet(catalog.size());
+        for (String value : values) {
+            BitSet bits = facetIndex.get(value);
+            if (bits != null) {
+                result.or(bits);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+package com.boolint.photogallery;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 속성 필터 선택 상태 (불변 - 변경 시 새 객체)
+ * 같은 속성의 값은 OR, 서로 다른 속성은 AND
+ */
+public final class MenuFacetQuery {
+
+    public static final MenuFacetQuery EMPTY = new MenuFacetQuery(new EnumMap<>(MenuFacetIndex.Facet.class));
+
+    private final Map<MenuFacetIndex.Facet, Set<String>> selected;
+
+    private MenuFacetQuery(Map<MenuFacetIndex.Facet, Set<String>> selected) {
+        this.selected = selected;
+    }
+
+    public Set<String> getSelected(MenuFacetIndex.Facet facet) {
+        Set<String> values = selected.get(facet);
+        return values != null ? values : Collections.emptySet();
+    }
+
+    public boolean isSelected(MenuFacetIndex.Facet facet, String value) {
+        return getSelected(facet).contains(value);
+    }
+
+    public boolean isEmpty() {
+        return selected.isEmpty();
+    }
+
+    /**
+     * 값 하나의 선택 여부를 바꾼 새 질의
+     */
+    public MenuFacetQuery with(MenuFacetIndex.Facet facet, String value, boolean select) {
+        if (isSelected(facet, value) == select) {
+            return this;
+        }
+        Map<MenuFacetIndex.Facet, Set<String>> copy = new EnumMap<>(MenuFacetIndex.Facet.class);
+        copy.putAll(selected);
+
+        Set<String> values = new LinkedHashSet<>(getSelected(facet));
+        if (select) {
+            values.add(value);
+        } else {
+            values.remove(value);
+        }
+        if (values.isEmpty()) {
+            copy.remove(facet);
+        } else {
+            copy.put(facet, Collections.unmodifiableSet(values));
+        }
+        return new MenuFacetQuery(copy);
+    }
+}
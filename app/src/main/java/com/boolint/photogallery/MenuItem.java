@@ -17,6 +17,7 @@ public class MenuItem {
     public String area2;
     public int icon;
     public String iconUrl = "";
+    public String iconVersion = ""; // 매니페스트의 이미지 버전 (Glide 캐시 시그니처)
     public String apiOption;
     public String apiOption2;
 
@@ -35,6 +36,29 @@ public class MenuItem {
         }
     }
 
+    /**
+     * 아이콘만 바꾼 사본 (게시된 MenuItem은 수정하지 않고 새 스냅샷에 사본을 넣음)
+     */
+    public MenuItem withIcon(String iconUrl, String iconVersion) {
+        MenuItem copy = new MenuItem();
+        copy.id = id;
+        copy.actType = actType;
+        copy.title = title;
+        copy.kind = kind;
+        copy.data0 = data0;
+        copy.area0 = area0;
+        copy.data1 = data1;
+        copy.area1 = area1;
+        copy.data2 = data2;
+        copy.area2 = area2;
+        copy.icon = icon;
+        copy.iconUrl = iconUrl;
+        copy.iconVersion = iconVersion;
+        copy.apiOption = apiOption;
+        copy.apiOption2 = apiOption2;
+        return copy;
+    }
+
     // Getter 메서드들
     public String getId() { return id; }
     public String getActType() { return actType; }
@@ -48,6 +72,7 @@ public class MenuItem {
     public String getArea2() { return area2; }
     public int getIcon() { return icon; }
     public String getIconUrl() { return iconUrl; }
+    public String getIconVersion() { return iconVersion; }
     public String getApiOption() { return apiOption; }
     public String getApiOption2() { return apiOption2; }
 
@@ -64,6 +89,7 @@ public class MenuItem {
     public void setArea2(String area2) { this.area2 = area2; }
     public void setIcon(int icon) { this.icon = icon; }
     public void setIconUrl(String iconUrl) { this.iconUrl = iconUrl; }
+    public void setIconVersion(String iconVersion) { this.iconVersion = iconVersion; }
     public void setApiOption(String apiOption) { this.apiOption = apiOption; }
     public void setApiOption2(String apiOption2) { this.apiOption2 = apiOption2; }
 }
\ No newline at end of file
@@ -0,0 +1,261 @@
+package com.boolint.photogallery;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 메뉴 검색용 접두어 색인 (MenuCatalog 스냅샷 하나에 대응하는 불변 객체)
+ * - 색인 대상: title(단어별 + 공백 제거 전체), kind, area0/1/2
+ * - 키는 초성 투영 문자열로 정렬 (한글 음절 → 초성, 그 외 소문자)
+ *   → 초성 검색("ㅇㅅ" → 위성영상), 완성형 검색, 섞인 검색("위ㅅ") 모두 같은 이진 탐색 범위에서 찾고
+ *   후보 토큰만 글자 단위로 재확인
+ * - 마지막 글자가 받침 없는 음절이면 입력 중인 글자로 보고 같은 초성+중성 음절과 일치 ("위서" → 위성)
+ *   겹받침의 앞 자음까지만 입력된 경우도 같음 ("안" → 앉)
+ * - 마지막 글자의 받침이 다음 글자의 초성이 될 수 있으면 조합 중으로 보고 일치 ("윗" → 위성, "닭" → 달걀)
+ * - 검색어를 공백/구분 기호로 나눈 각 단어가 모두 일치해야 함 (AND)
+ */
+public final class MenuSearchIndex {
+
+    // 단어 구분 (공백 및 "rad+inf", "weather_chart" 같은 구분 기호)
+    private static final String SEPARATORS = "[\\s+/_\\-]+";
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+    private static final int SYLLABLES_PER_CHOSEONG = JUNGSEONG_COUNT * JONGSEONG_COUNT;
+
+    // 초성 순서 (호환용 자모)
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 종성 인덱스별 IME 조합 분리: 현재 글자에 남는 종성 / 다음 글자 초성으로 넘어가는 자음
+    // (0: 받침 없음, 겹받침은 뒤 자음만 넘어감 - 예: ㄺ → ㄹ + ㄱ)
+    private static final int[] JONGSEONG_REMAINDER = {
+            0, 0, 0, 1, 0, 4, 4, 0, 0, 8, 8, 8, 8, 8, 8, 8, 0, 0, 17, 0, 0, 0, 0, 0, 0, 0, 0, 0
+    };
+    private static final char[] JONGSEONG_MOVED = {
+            0, 'ㄱ', 'ㄲ', 'ㅅ', 'ㄴ', 'ㅈ', 'ㅎ', 'ㄷ', 'ㄹ', 'ㄱ', 'ㅁ', 'ㅂ', 'ㅅ', 'ㅌ', 'ㅍ', 'ㅎ',
+            'ㅁ', 'ㅂ', 'ㅅ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private final int itemCount;
+    // 초성 투영 키 기준으로 정렬된 토큰 (세 배열은 같은 순서)
+    private final String[] keys;
+    private final String[] tokens;
+    private final int[] positions;
+
+    private MenuSearchIndex(int itemCount, String[] keys, String[] tokens, int[] positions) {
+        this.itemCount = itemCount;
+        this.keys = keys;
+        this.tokens = tokens;
+        this.positions = positions;
+    }
+
+    /**
+     * 스냅샷 목록으로 색인 생성 (항목 수에 비례, 백그라운드 스레드에서 호출)
+     */
+    public static MenuSearchIndex build(List<MenuItem> items) {
+        List<Entry> entries = new ArrayList<>(items.size() * 8);
+        Set<String> itemTokens = new LinkedHashSet<>();
+        for (int position = 0; position < items.size(); position++) {
+            MenuItem vo = items.get(position);
+            itemTokens.clear();
+            addWords(itemTokens, vo.title);
+            addCompact(itemTokens, vo.title);
+            addWords(itemTokens, vo.kind);
+            addCompact(itemTokens, vo.kind);
+            addCompact(itemTokens, vo.area0);
+            addCompact(itemTokens, vo.area1);
+            addCompact(itemTokens, vo.area2);
+            for (String token : itemTokens) {
+                entries.add(new Entry(project(token), token, position));
+            }
+        }
+
+        Entry[] sorted = entries.toArray(new Entry[0]);
+        Arrays.sort(sorted, Comparator.comparing((Entry e) -> e.key));
+
+        String[] keys = new String[sorted.length];
+        String[] tokens = new String[sorted.length];
+        int[] positions = new int[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            keys[i] = sorted[i].key;
+            tokens[i] = sorted[i].token;
+            positions[i] = sorted[i].position;
+        }
+        return new MenuSearchIndex(items.size(), keys, tokens, positions);
+    }
+
+    /**
+     * 검색어와 일치하는 항목 위치 집합
+     *
+     * @return 일치 위치 (검색어가 비어 있으면 null - 전체)
+     */
+    public BitSet search(String query) {
+        String[] terms = normalize(query).split(SEPARATORS);
+        BitSet result = null;
+        for (String term : terms) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            BitSet hits = searchTerm(term);
+            if (result == null) {
+                result = hits;
+            } else {
+                result.and(hits);
+            }
+            if (result.isEmpty()) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    public int getItemCount() {
+        return itemCount;
+    }
+
+    private BitSet searchTerm(String term) {
+        BitSet hits = new BitSet(itemCount);
+        String prefix = project(term);
+        for (int i = lowerBound(prefix); i < keys.length && keys[i].startsWith(prefix); i++) {
+            if (!hits.get(positions[i]) && matches(tokens[i], term)) {
+                hits.set(positions[i]);
+            }
+        }
+        return hits;
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 토큰이 검색어로 시작하는지 글자 단위로 확인 (투영 키가 같은 후보에 대해서만 호출)
+     */
+    private static boolean matches(String token, String term) {
+        if (token.length() < term.length()) {
+            return false;
+        }
+        int last = term.length() - 1;
+        for (int i = 0; i <= last; i++) {
+            char q = term.charAt(i);
+            char t = token.charAt(i);
+            if (q == t) {
+                continue;
+            }
+            if (isChoseong(q)) {
+                // 초성만 입력: 같은 초성의 음절이면 일치 (투영 키에서 이미 확인됨)
+                continue;
+            }
+            if (i == last && isSyllable(q) && isSyllable(t)
+                    && jongseongOf(q) == JONGSEONG_REMAINDER[jongseongOf(t)]
+                    && (q - HANGUL_BASE) / JONGSEONG_COUNT == (t - HANGUL_BASE) / JONGSEONG_COUNT) {
+                // 입력 중인 마지막 글자: 받침이 아직 없거나 겹받침의 앞 자음까지만 입력된 음절 허용 ("안" → 앉)
+                continue;
+            }
+            if (i == last && isComposingJongseong(q, t, i + 1 < token.length() ? token.charAt(i + 1) : 0)) {
+                // 입력 중인 마지막 글자의 받침이 다음 글자 초성으로 넘어갈 예정 ("윗" → 위성)
+                continue;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * q의 받침(또는 겹받침의 뒤 자음)을 떼면 t가 되고, 뗀 자음이 next의 초성인지
+     */
+    private static boolean isComposingJongseong(char q, char t, char next) {
+        if (!isSyllable(q) || !isSyllable(t) || !isSyllable(next)) {
+            return false;
+        }
+        int jongseong = jongseongOf(q);
+        if (jongseong == 0) {
+            return false;
+        }
+        return t == q - jongseong + JONGSEONG_REMAINDER[jongseong]
+                && CHOSEONG[(next - HANGUL_BASE) / SYLLABLES_PER_CHOSEONG] == JONGSEONG_MOVED[jongseong];
+    }
+
+    private static void addWords(Set<String> out, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        for (String word : normalize(value).split(SEPARATORS)) {
+            if (!word.isEmpty()) {
+                out.add(word);
+            }
+        }
+    }
+
+    private static void addCompact(Set<String> out, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        String compact = normalize(value).replaceAll(SEPARATORS, "");
+        if (!compact.isEmpty()) {
+            out.add(compact);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 초성 투영: 한글 음절은 초성 자모로, 그 외 글자는 그대로
+     */
+    static String project(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (isSyllable(chars[i])) {
+                chars[i] = CHOSEONG[(chars[i] - HANGUL_BASE) / SYLLABLES_PER_CHOSEONG];
+            }
+        }
+        return new String(chars);
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    private static boolean isChoseong(char c) {
+        return Arrays.binarySearch(CHOSEONG, c) >= 0;
+    }
+
+    private static int jongseongOf(char syllable) {
+        return (syllable - HANGUL_BASE) % JONGSEONG_COUNT;
+    }
+
+    private static final class Entry {
+        final String key;
+        final String token;
+        final int position;
+
+        Entry(String key, String token, int position) {
+            this.key = key;
+            this.token = token;
+            this.position = position;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.boolint.photogallery;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 입력 중 검색 (백그라운드 단일 스레드)
+ * - 카탈로그 스냅샷이 바뀔 때만 MenuSearchIndex를 다시 만듦
+ * - 새 검색이 들어오면 이전 요청은 결과를 전달하지 않음 (마지막 입력만 반영)
+ * - 속성 필터(MenuFacetIndex 비트셋)가 있으면 검색 결과와 AND
+ * - 결과 목록은 메인 스레드로 전달
+ */
+public class MenuSearcher {
+
+    public interface Callback {
+        void onResult(String query, List<MenuItem> items);
+    }
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "menu-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final AtomicInteger generation = new AtomicInteger();
+
+    // 검색 스레드에서만 접근
+    private MenuCatalog indexedCatalog;
+    private MenuSearchIndex index;
+
+    /**
+     * 검색 요청 (메인 스레드에서 호출)
+     *
+     * @param filter 같은 catalog 기준 속성 필터 위치 (null이면 필터 없음, 호출 후 수정하지 않아야 함)
+     */
+    public void search(MenuCatalog catalog, String query, BitSet filter, Callback callback) {
+        int requestGeneration = generation.incrementAndGet();
+        executor.execute(() -> {
+            if (requestGeneration != generation.get()) {
+                return; // 더 새로운 입력이 대기 중
+            }
+            List<MenuItem> result = filter(catalog, query, filter);
+            mainHandler.post(() -> {
+                if (requestGeneration == generation.get()) {
+                    callback.onResult(query, result);
+                }
+            });
+        });
+    }
+
+    /**
+     * 대기 중인 검색 결과를 전달하지 않음 (검색 없이 목록을 바로 갱신할 때)
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * 대기 중인 결과 전달 중지 및 스레드 종료
+     */
+    public void shutdown() {
+        generation.incrementAndGet();
+        mainHandler.removeCallbacksAndMessages(null);
+        executor.shutdownNow();
+    }
+
+    private List<MenuItem> filter(MenuCatalog catalog, String query, BitSet filter) {
+        if (query == null || query.trim().isEmpty()) {
+            return catalog.select(filter);
+        }
+        if (catalog != indexedCatalog) {
+            index = MenuSearchIndex.build(catalog.getItems());
+            indexedCatalog = catalog;
+        }
+
+        BitSet hits = index.search(query);
+        if (hits == null) {
+            return catalog.select(filter);
+        }
+        if (filter != null) {
+            hits.and(filter);
+        }
+        return catalog.select(hits);
+    }
+}
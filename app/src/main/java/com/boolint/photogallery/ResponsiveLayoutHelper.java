@@ -28,21 +28,43 @@ public class ResponsiveLayoutHelper {
     private final boolean isLandscape;
 
     public ResponsiveLayoutHelper(Context context) {
+        this(context, readDisplayMetrics(context), readLandscape(context));
+    }
+
+    /**
+     * 화면 크기(dp)와 방향만으로 생성 (Context 없이 분류 규칙만 사용할 때 - 예: JVM 벤치마크)
+     */
+    ResponsiveLayoutHelper(int screenWidthDp, int screenHeightDp, boolean isLandscape) {
+        this(null, screenWidthDp, screenHeightDp, isLandscape);
+    }
+
+    private ResponsiveLayoutHelper(Context context, DisplayMetrics displayMetrics, boolean isLandscape) {
+        this(context,
+                (int) (displayMetrics.widthPixels / displayMetrics.density),
+                (int) (displayMetrics.heightPixels / displayMetrics.density),
+                isLandscape);
+    }
+
+    private ResponsiveLayoutHelper(Context context, int screenWidthDp, int screenHeightDp, boolean isLandscape) {
         this.context = context;
+        this.screenWidthDp = screenWidthDp;
+        this.screenHeightDp = screenHeightDp;
+        this.smallestWidthDp = Math.min(screenWidthDp, screenHeightDp);
+        this.isLandscape = isLandscape;
+    }
 
-        // 화면 크기 계산
+    // 화면 크기 계산
+    private static DisplayMetrics readDisplayMetrics(Context context) {
         DisplayMetrics displayMetrics = new DisplayMetrics();
         WindowManager windowManager = (WindowManager) context.getSystemService(Context.WINDOW_SERVICE);
         windowManager.getDefaultDisplay().getMetrics(displayMetrics);
+        return displayMetrics;
+    }
 
-        float density = displayMetrics.density;
-        this.screenWidthDp = (int) (displayMetrics.widthPixels / density);
-        this.screenHeightDp = (int) (displayMetrics.heightPixels / density);
-        this.smallestWidthDp = Math.min(screenWidthDp, screenHeightDp);
-
-        // 방향 확인
+    // 방향 확인
+    private static boolean readLandscape(Context context) {
         Configuration config = context.getResources().getConfiguration();
-        this.isLandscape = config.orientation == Configuration.ORIENTATION_LANDSCAPE;
+        return config.orientation == Configuration.ORIENTATION_LANDSCAPE;
     }
 
     /**
@@ -306,6 +328,45 @@ public class ResponsiveLayoutHelper {
         }
     }
 
+    // 화면 밖 뷰 캐시에 유지할 행 수 (위/아래 방향 전환 시 재바인딩 없이 복귀)
+    private static final int CACHED_ROWS = 2;
+
+    /**
+     * 그리드 아이템 한 칸의 예상 높이 (dp)
+     * 썸네일 + 제목 2줄(줄 간격 1.25) + 제목 위 여백 6dp + 아이템 패딩/마진 + 그리드 간격
+     */
+    public int getEstimatedItemHeightDp() {
+        int titleHeight = Math.round(getTitleTextSize() * 1.25f * 2) + 6;
+        return getOptimalThumbnailSize().height
+                + titleHeight
+                + 2 * getItemPadding()
+                + 2 * getItemMargin()
+                + getGridSpacing();
+    }
+
+    /**
+     * 한 화면에 동시에 보이는 최대 행 수 (위/아래로 걸친 부분 행 포함)
+     */
+    public int getVisibleRows() {
+        int itemHeight = Math.max(1, getEstimatedItemHeightDp());
+        return (screenHeightDp + itemHeight - 1) / itemHeight + 1;
+    }
+
+    /**
+     * RecyclerView 화면 밖 뷰 캐시 크기 (바인딩 유지) - CACHED_ROWS행 분량
+     */
+    public int getItemViewCacheSize() {
+        return getGridColumns() * CACHED_ROWS;
+    }
+
+    /**
+     * 아이템 뷰 타입 재사용 풀 크기 - 한 화면 전체 + 1행 분량
+     * 목록 교체로 보이는 뷰가 모두 풀로 돌아가거나 빠르게 스크롤해도 새 ViewHolder를 만들지 않음
+     */
+    public int getRecycledViewPoolSize() {
+        return getGridColumns() * (getVisibleRows() + 1);
+    }
+
     /**
      * 갤럭시 폴드 특화 감지 (레거시, 참고용)
      */
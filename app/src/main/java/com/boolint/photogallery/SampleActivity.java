@@ -1,15 +1,29 @@
 package com.boolint.photogallery;
 
+import android.content.Context;
+import android.graphics.drawable.Drawable;
+import android.os.Build;
 import android.os.Bundle;
+import android.os.Trace;
+import android.util.DisplayMetrics;
 import android.widget.ImageView;
 import android.widget.TextView;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.appcompat.widget.Toolbar;
 
 import com.bumptech.glide.Glide;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
+import com.bumptech.glide.load.DataSource;
 import com.bumptech.glide.load.engine.DiskCacheStrategy;
+import com.bumptech.glide.load.engine.GlideException;
+import com.bumptech.glide.load.resource.drawable.DrawableTransitionOptions;
+import com.bumptech.glide.request.RequestListener;
 import com.bumptech.glide.request.RequestOptions;
-import com.bumptech.glide.signature.ObjectKey;
+import com.bumptech.glide.request.target.Target;
+import com.bumptech.glide.request.transition.DrawableCrossFadeFactory;
 
 /**
  * 메뉴 아이템 상세 화면
@@ -17,6 +31,19 @@ import com.bumptech.glide.signature.ObjectKey;
  */
 public class SampleActivity extends AppCompatActivity {
 
+    private static final int DETAIL_PADDING_DP = 16;
+    private static final int DETAIL_IMAGE_HEIGHT_DP = 200;
+
+    private static final RequestOptions DETAIL_OPTIONS = new RequestOptions()
+            .centerCrop()
+            .placeholder(R.drawable.placeholder_photo)
+            .error(R.drawable.placeholder_photo)
+            .diskCacheStrategy(DiskCacheStrategy.AUTOMATIC);
+
+    // 썸네일 → 상세 이미지 전환 시 이전 Drawable에서 크로스페이드
+    private static final DrawableCrossFadeFactory CROSS_FADE =
+            new DrawableCrossFadeFactory.Builder().setCrossFadeEnabled(true).build();
+
     private Toolbar toolbar;
     private ImageView imageView;
     private TextView tvTitle;
@@ -30,6 +57,11 @@ public class SampleActivity extends AppCompatActivity {
     private MenuItem menuItem;
     private int position;
 
+    // 백그라운드 메모리 부족 시 디코딩된 상세 이미지 해제, 포그라운드 복귀 시 다시 로드
+    private MemoryGovernor memoryGovernor;
+    private boolean detailImageReleased = false;
+    private final MemoryGovernor.Listener memoryListener = this::applyMemoryLevel;
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -43,6 +75,31 @@ public class SampleActivity extends AppCompatActivity {
         initViews();
         setupToolbar();
         displayMenuInfo();
+
+        memoryGovernor = MemoryGovernor.install(this);
+        memoryGovernor.addListener(memoryListener);
+    }
+
+    @Override
+    protected void onDestroy() {
+        if (memoryGovernor != null) {
+            memoryGovernor.removeListener(memoryListener);
+        }
+        super.onDestroy();
+    }
+
+    private void applyMemoryLevel(MemoryGovernor.Level level) {
+        // 화면이 숨겨진 뒤(UI_HIDDEN 이상)에만 해제 - 포그라운드 RUNNING_* 신호에서는 유지
+        if (level.compareTo(MemoryGovernor.Level.HIDDEN) >= 0) {
+            if (!detailImageReleased) {
+                detailImageReleased = true;
+                Glide.with(this).clear(imageView);
+                imageView.setImageResource(R.drawable.placeholder_photo);
+            }
+        } else if (level == MemoryGovernor.Level.NORMAL && detailImageReleased) {
+            detailImageReleased = false;
+            loadDetailImage(false);
+        }
     }
 
     private void initViews() {
@@ -81,28 +138,105 @@ public class SampleActivity extends AppCompatActivity {
         tvData0.setText("Data0: " + (menuItem.data0 != null ? menuItem.data0 : "N/A"));
         tvArea0.setText("Area0: " + (menuItem.area0 != null ? menuItem.area0 : "N/A"));
 
-        // 이미지 로드
-        long cacheKey = System.currentTimeMillis() / 300_000;
-        RequestOptions options = new RequestOptions()
-                .centerCrop()
-                .placeholder(R.drawable.placeholder_photo)
-                .error(R.drawable.placeholder_photo)
-                .diskCacheStrategy(DiskCacheStrategy.AUTOMATIC)
-                .signature(new ObjectKey(cacheKey));
+        loadDetailImage(true);
+    }
+
+    /**
+     * 상세 이미지 로드
+     *
+     * @param traceOpen 그리드에서 시작한 DetailOpen 트레이스를 이 로드에서 종료할지 여부
+     */
+    private void loadDetailImage(boolean traceOpen) {
+        if (menuItem == null) {
+            return;
+        }
 
         // iconUrl이 있으면 우선 사용, 없으면 로컬 icon 사용
-        if (menuItem.iconUrl != null && !menuItem.iconUrl.isEmpty()) {
-            Glide.with(this)
+        RequestManager requestManager = Glide.with(this);
+        RequestBuilder<Drawable> detailRequest = buildDetailRequest(this, requestManager, menuItem);
+
+        if (detailRequest != null) {
+            // 그리드에서 이미 디코딩된 썸네일(그리드와 같은 옵션 객체 → 같은 캐시 키)을 먼저 표시하고
+            // 상세 크기 이미지가 준비되면 크로스페이드로 교체
+            // (옵션에 dontTransform이 있어 thumbnail 요청에는 ImageView scaleType 변환이 붙지 않음,
+            //  시그니처는 항목 값으로만 정해지므로 그리드 Row에 보관된 키와 열린 시점에 만든 키가 같음)
+            RequestBuilder<Drawable> gridThumbnail = requestManager
                     .load(menuItem.iconUrl)
-                    .apply(options)
-                    .into(imageView);
+                    .apply(MainActivity.MenuAdapter.getGridThumbnailOptions())
+                    .signature(IconSignatures.of(menuItem))
+                    .onlyRetrieveFromCache(true);
+
+            detailRequest = detailRequest
+                    .thumbnail(gridThumbnail)
+                    .transition(DrawableTransitionOptions.with(CROSS_FADE));
+            if (traceOpen) {
+                detailRequest = detailRequest.addListener(detailOpenTraceListener);
+            }
+            detailRequest.into(imageView);
         } else if (menuItem.icon != 0) {
-            Glide.with(this)
+            RequestBuilder<Drawable> iconRequest = requestManager
                     .load(menuItem.icon)
-                    .apply(options)
-                    .into(imageView);
+                    .apply(DETAIL_OPTIONS);
+            if (traceOpen) {
+                iconRequest = iconRequest.addListener(detailOpenTraceListener);
+            }
+            iconRequest.into(imageView);
         } else {
             imageView.setImageResource(R.drawable.placeholder_photo);
+            if (traceOpen) {
+                endDetailOpenTrace(); // 로드할 이미지가 없어도 열린 구간은 종료
+            }
+        }
+    }
+
+    /**
+     * 상세 이미지 요청 생성 (시그니처는 매니페스트 콘텐츠 버전 기준)
+     * 디코딩 크기를 레이아웃 기준으로 고정해 화면 진입 전 프리로드와 같은 캐시 키를 사용
+     *
+     * @return iconUrl이 없으면 null
+     */
+    static RequestBuilder<Drawable> buildDetailRequest(Context context,
+                                                       RequestManager requestManager,
+                                                       MenuItem item) {
+        if (item.iconUrl == null || item.iconUrl.isEmpty()) {
+            return null;
+        }
+
+        // activity_sample.xml: 좌우 16dp 패딩, 높이 200dp
+        DisplayMetrics metrics = context.getResources().getDisplayMetrics();
+        int widthPx = metrics.widthPixels - Math.round(2 * DETAIL_PADDING_DP * metrics.density);
+        int heightPx = Math.round(DETAIL_IMAGE_HEIGHT_DP * metrics.density);
+
+        return requestManager
+                .load(item.iconUrl)
+                .apply(DETAIL_OPTIONS)
+                .override(widthPx, heightPx)
+                .signature(IconSignatures.of(item));
+    }
+
+    /**
+     * 상세 이미지가 준비되면 MainActivity에서 시작한 DetailOpen 트레이스 종료
+     */
+    private final RequestListener<Drawable> detailOpenTraceListener = new RequestListener<Drawable>() {
+        @Override
+        public boolean onLoadFailed(@Nullable GlideException e, Object model,
+                                    @NonNull Target<Drawable> target, boolean isFirstResource) {
+            endDetailOpenTrace();
+            return false;
+        }
+
+        @Override
+        public boolean onResourceReady(@NonNull Drawable resource, @NonNull Object model,
+                                       Target<Drawable> target, @NonNull DataSource dataSource,
+                                       boolean isFirstResource) {
+            endDetailOpenTrace();
+            return false;
+        }
+    };
+
+    private static void endDetailOpenTrace() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            Trace.endAsyncSection(MainActivity.TRACE_DETAIL_OPEN, MainActivity.TRACE_DETAIL_OPEN_COOKIE);
         }
     }
 
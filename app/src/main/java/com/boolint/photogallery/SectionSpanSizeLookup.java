@@ -0,0 +1,127 @@
+package com.boolint.photogallery;
+
+import androidx.recyclerview.widget.GridLayoutManager;
+
+/**
+ * 섹션 헤더(전체 폭)와 아이템(1칸)을 섞은 그리드의 SpanSizeLookup
+ * - 위치별 spanIndex / spanGroupIndex를 배열에 캐시 (요청된 위치까지만 이어서 계산)
+ * - 목록이 바뀌면 헤더 배치가 처음 달라진 위치부터만 무효화 (invalidateFrom)
+ * - spanCount가 바뀌면 전체 무효화
+ * GridLayoutManager 내장 캐시는 아이템 변경마다 전부 비워지므로 사용하지 않음
+ * (invalidateSpanIndexCache 호출과 무관하게 유지되므로 목록 교체 시 invalidateFrom 호출 필요)
+ */
+public class SectionSpanSizeLookup extends GridLayoutManager.SpanSizeLookup {
+
+    /**
+     * 위치별 헤더 여부 제공 (MenuAdapter)
+     */
+    public interface Sections {
+        int getItemCount();
+
+        boolean isSectionHeader(int position);
+    }
+
+    private final Sections sections;
+    private int spanCount;
+
+    // [0, validCount) 위치의 캐시가 유효
+    private int[] spanIndexes = new int[0];
+    private int[] groupIndexes = new int[0];
+    private int validCount = 0;
+
+    public SectionSpanSizeLookup(Sections sections, int spanCount) {
+        this.sections = sections;
+        this.spanCount = Math.max(1, spanCount);
+    }
+
+    public int getSpanCount() {
+        return spanCount;
+    }
+
+    /**
+     * GridLayoutManager.setSpanCount와 함께 호출
+     */
+    public void setSpanCount(int spanCount) {
+        spanCount = Math.max(1, spanCount);
+        if (this.spanCount != spanCount) {
+            this.spanCount = spanCount;
+            validCount = 0;
+        }
+    }
+
+    /**
+     * position 이후 캐시 무효화 (그 앞의 행 배치는 그대로 유지)
+     */
+    public void invalidateFrom(int position) {
+        validCount = Math.max(0, Math.min(validCount, position));
+    }
+
+    public boolean isSectionHeader(int position) {
+        return position >= 0 && position < sections.getItemCount() && sections.isSectionHeader(position);
+    }
+
+    @Override
+    public int getSpanSize(int position) {
+        return isSectionHeader(position) ? spanCount : 1;
+    }
+
+    @Override
+    public int getSpanIndex(int position, int spanCount) {
+        if (!ensureCached(position, spanCount)) {
+            return 0;
+        }
+        return spanIndexes[position];
+    }
+
+    @Override
+    public int getSpanGroupIndex(int adapterPosition, int spanCount) {
+        if (!ensureCached(adapterPosition, spanCount)) {
+            return 0;
+        }
+        return groupIndexes[adapterPosition];
+    }
+
+    /**
+     * position까지 캐시 계산 (이미 계산된 구간은 건너뜀)
+     *
+     * @return position이 유효 범위이면 true
+     */
+    private boolean ensureCached(int position, int spanCount) {
+        if (position < 0 || position >= sections.getItemCount()) {
+            return false;
+        }
+        setSpanCount(spanCount);
+        if (position < validCount) {
+            return true;
+        }
+
+        if (spanIndexes.length <= position) {
+            int capacity = Math.max(position + 1, Math.max(16, spanIndexes.length * 2));
+            int[] newSpanIndexes = new int[capacity];
+            int[] newGroupIndexes = new int[capacity];
+            System.arraycopy(spanIndexes, 0, newSpanIndexes, 0, validCount);
+            System.arraycopy(groupIndexes, 0, newGroupIndexes, 0, validCount);
+            spanIndexes = newSpanIndexes;
+            groupIndexes = newGroupIndexes;
+        }
+
+        for (int i = validCount; i <= position; i++) {
+            int size = getSpanSize(i);
+            if (i == 0) {
+                spanIndexes[i] = 0;
+                groupIndexes[i] = 0;
+                continue;
+            }
+            int next = spanIndexes[i - 1] + getSpanSize(i - 1);
+            if (next + size > this.spanCount) {
+                spanIndexes[i] = 0;
+                groupIndexes[i] = groupIndexes[i - 1] + 1;
+            } else {
+                spanIndexes[i] = next;
+                groupIndexes[i] = groupIndexes[i - 1];
+            }
+        }
+        validCount = position + 1;
+        return true;
+    }
+}
@@ -0,0 +1,212 @@
+package com.boolint.photogallery;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.Process;
+import android.os.SystemClock;
+import android.os.Trace;
+import android.util.Log;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 앱 시작 단계별 시간 측정
+ * - 각 단계를 systrace/Perfetto 섹션으로 표시 (android.os.Trace)
+ * - 단계별 소요 시간을 기록하고 최근 MAX_RECORDS회 실행분을 SharedPreferences에 보관
+ * - 실행 조건(예: 광고 시작 모드)을 속성으로 함께 기록해 조건별로 비교
+ * - 메인 스레드에서만 사용
+ */
+public class StartupTracer {
+    private static final String TAG = "StartupTracer";
+
+    private static final String PREFS_NAME = "startup_trace";
+    private static final String KEY_RECORDS = "records";
+    private static final int MAX_RECORDS = 10;
+
+    // 기록 직렬화 구분자: 실행 간 '\n', 단계 간 ';', 이름/값 '='
+    private static final String RECORD_SEPARATOR = "\n";
+    private static final String PHASE_SEPARATOR = ";";
+
+    public static final String PHASE_FULLY_DRAWN = "fullyDrawn";
+    public static final String PHASE_FIRST_FRAME = "firstFrame";
+    // 첫 프레임 이후로 미룬 광고 시작 작업의 메인 스레드 소요 시간
+    // (지연 모드 기록에만 있음 - 절약된 시간은 ATTR_AD_STARTUP별 firstFrame 비교로 확인)
+    public static final String PHASE_AD_STARTUP_DEFERRED = "adStartupDeferred";
+
+    // 광고 시작 모드 속성 (AD_STARTUP_DEFERRED / AD_STARTUP_EAGER)
+    public static final String ATTR_AD_STARTUP = "adStartup";
+    public static final String AD_STARTUP_DEFERRED = "deferred";
+    public static final String AD_STARTUP_EAGER = "eager";
+
+    // 시작 종류 속성 - cold: 프로세스 시작 기준, warm: MainActivity 생성 기준
+    public static final String ATTR_START = "start";
+    public static final String START_COLD = "cold";
+    public static final String START_WARM = "warm";
+
+    // 프로세스 시작 후 이 시간 안에 생성된 첫 tracer만 콜드 스타트로 취급
+    // (WorkManager 등으로 먼저 떠 있던 프로세스에서 나중에 화면을 연 경우 제외)
+    private static final long COLD_START_MAX_DELAY_MS = 10_000;
+
+    private static boolean firstInProcess = true;
+
+    private final long startNanos;
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+    private final Map<String, Long> phaseStarts = new LinkedHashMap<>();
+    private final Map<String, Long> phaseDurations = new LinkedHashMap<>();
+    private boolean finished = false;
+
+    public StartupTracer() {
+        long now = SystemClock.elapsedRealtimeNanos();
+        long processStart = Process.getStartElapsedRealtime() * 1_000_000L;
+        boolean cold = firstInProcess && now - processStart <= COLD_START_MAX_DELAY_MS * 1_000_000L;
+        firstInProcess = false;
+
+        // 콜드 스타트는 시스템이 보고하는 시작 시간과 같은 기준 (프로세스 생성/Application 초기화 포함)
+        this.startNanos = cold ? processStart : now;
+        attributes.put(ATTR_START, cold ? START_COLD : START_WARM);
+    }
+
+    /**
+     * 단계 시작
+     */
+    public void begin(String phase) {
+        if (finished) {
+            return;
+        }
+        Trace.beginSection(phase);
+        phaseStarts.put(phase, SystemClock.elapsedRealtimeNanos());
+    }
+
+    /**
+     * 단계 종료 (begin과 같은 이름으로, 역순으로 호출)
+     */
+    public void end(String phase) {
+        Long start = phaseStarts.remove(phase);
+        if (finished || start == null) {
+            return;
+        }
+        Trace.endSection();
+        phaseDurations.put(phase, SystemClock.elapsedRealtimeNanos() - start);
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * 이번 실행의 조건 기록 (finish 전에 호출)
+     */
+    public void setAttribute(String name, String value) {
+        if (!finished) {
+            attributes.put(name, value);
+        }
+    }
+
+    /**
+     * 시작 시점부터 지금까지의 시간을 단계로 기록 (예: 첫 프레임)
+     */
+    public void mark(String phase) {
+        if (finished || phaseDurations.containsKey(phase)) {
+            return;
+        }
+        phaseDurations.put(phase, SystemClock.elapsedRealtimeNanos() - startNanos);
+    }
+
+    /**
+     * 별도로 측정한 단계 시간 기록
+     * finish 이후에 호출되면 이미 저장된 마지막 실행 기록에 덧붙임
+     */
+    public void record(Context context, String phase, long durationNanos) {
+        if (!finished) {
+            phaseDurations.put(phase, durationNanos);
+            return;
+        }
+
+        List<String> records = new ArrayList<>(getRecentLaunches(context));
+        if (records.isEmpty()) {
+            return;
+        }
+        int last = records.size() - 1;
+        String record = records.get(last) + PHASE_SEPARATOR + phase + '='
+                + String.format(Locale.US, "%.2f", durationNanos / 1_000_000.0);
+        records.set(last, record);
+        Log.d(TAG, "Startup phase appended: " + record);
+
+        context.getApplicationContext()
+                .getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE)
+                .edit()
+                .putString(KEY_RECORDS, String.join(RECORD_SEPARATOR, records))
+                .apply();
+    }
+
+    /**
+     * 첫 썸네일 표시 시점에 호출 - 전체 시간 기록 후 저장
+     */
+    public void finish(Context context) {
+        if (finished) {
+            return;
+        }
+        phaseDurations.put(PHASE_FULLY_DRAWN, SystemClock.elapsedRealtimeNanos() - startNanos);
+        finished = true;
+
+        String record = formatRecord(System.currentTimeMillis(), attributes, phaseDurations);
+        Log.d(TAG, "Startup phases: " + record);
+        saveRecord(context, record);
+    }
+
+    private static String formatRecord(long timestamp, Map<String, String> attributes,
+                                       Map<String, Long> durations) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(timestamp);
+        for (Map.Entry<String, String> entry : attributes.entrySet()) {
+            sb.append(PHASE_SEPARATOR)
+                    .append(entry.getKey())
+                    .append('=')
+                    .append(entry.getValue());
+        }
+        for (Map.Entry<String, Long> entry : durations.entrySet()) {
+            sb.append(PHASE_SEPARATOR)
+                    .append(entry.getKey())
+                    .append('=')
+                    .append(String.format(Locale.US, "%.2f", entry.getValue() / 1_000_000.0));
+        }
+        return sb.toString();
+    }
+
+    private static void saveRecord(Context context, String record) {
+        SharedPreferences prefs = context.getApplicationContext()
+                .getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+
+        List<String> records = new ArrayList<>(getRecentLaunches(context));
+        records.add(record);
+        while (records.size() > MAX_RECORDS) {
+            records.remove(0);
+        }
+
+        prefs.edit()
+                .putString(KEY_RECORDS, String.join(RECORD_SEPARATOR, records))
+                .apply();
+    }
+
+    /**
+     * 최근 실행 기록 (오래된 순)
+     * 형식: "시작시각(ms);속성=값;...;단계=소요ms;...;fullyDrawn=소요ms"
+     * (finish 이후 record된 단계는 fullyDrawn 뒤에 덧붙음)
+     */
+    public static List<String> getRecentLaunches(Context context) {
+        String stored = context.getApplicationContext()
+                .getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE)
+                .getString(KEY_RECORDS, "");
+        if (stored.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> records = new ArrayList<>();
+        Collections.addAll(records, stored.split(RECORD_SEPARATOR));
+        return records;
+    }
+}
@@ -0,0 +1,180 @@
+package com.boolint.photogallery;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.work.Constraints;
+import androidx.work.Data;
+import androidx.work.ExistingPeriodicWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.PeriodicWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.request.FutureTarget;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * 백그라운드 썸네일 캐시 예열 작업
+ * - 아이콘 매니페스트를 받아 메뉴에 적용/저장
+ * - 모든 메뉴 썸네일 원본을 Glide 디스크 캐시에 미리 다운로드
+ * - 비종량제 네트워크 + 배터리 부족 아님 조건에서만 실행
+ */
+public class ThumbnailCacheWorker extends Worker {
+    private static final String TAG = "ThumbnailCacheWorker";
+
+    private static final String UNIQUE_WORK_NAME = "thumbnail_cache_warming";
+
+    // 아이콘 매니페스트 주소 (MainActivity가 결정한 주소를 그대로 사용)
+    private static final String KEY_ICON_API = "icon_api";
+
+    // 기본 실행 주기 (WorkManager 최소 주기는 15분)
+    public static final long DEFAULT_PERIOD_MINUTES = 60;
+    private static final long MIN_PERIOD_MINUTES = 15;
+
+    private static final long DOWNLOAD_TIMEOUT_SECONDS = 30;
+
+    public ThumbnailCacheWorker(@NonNull Context context, @NonNull WorkerParameters params) {
+        super(context, params);
+    }
+
+    /**
+     * 기본 주기로 예열 작업 등록
+     *
+     * @param iconApi 아이콘 매니페스트 주소 (MainActivity.resolveIconApi 결과)
+     */
+    public static void schedule(Context context, String iconApi) {
+        schedule(context, iconApi, DEFAULT_PERIOD_MINUTES);
+    }
+
+    /**
+     * 지정한 주기로 예열 작업 등록 (이미 등록되어 있으면 주기/주소만 갱신)
+     */
+    public static void schedule(Context context, String iconApi, long periodMinutes) {
+        long period = Math.max(MIN_PERIOD_MINUTES, periodMinutes);
+
+        Constraints constraints = new Constraints.Builder()
+                .setRequiredNetworkType(NetworkType.UNMETERED)
+                .setRequiresBatteryNotLow(true)
+                .build();
+
+        PeriodicWorkRequest request = new PeriodicWorkRequest.Builder(
+                ThumbnailCacheWorker.class, period, TimeUnit.MINUTES)
+                .setConstraints(constraints)
+                .setInputData(new Data.Builder().putString(KEY_ICON_API, iconApi).build())
+                .build();
+
+        WorkManager.getInstance(context.getApplicationContext())
+                .enqueueUniquePeriodicWork(UNIQUE_WORK_NAME, ExistingPeriodicWorkPolicy.UPDATE, request);
+
+        Log.d(TAG, "Cache warming scheduled every " + period + " minutes");
+    }
+
+    /**
+     * 예열 작업 취소
+     */
+    public static void cancel(Context context) {
+        WorkManager.getInstance(context.getApplicationContext()).cancelUniqueWork(UNIQUE_WORK_NAME);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        Context context = getApplicationContext();
+
+        DataManager dataManager = DataManager.getInstance();
+        dataManager.initialize(context);
+
+        try {
+            Map<String, String> urls = new HashMap<>();
+            Map<String, String> versions = new HashMap<>();
+            int count = fetchManifest(context, getIconApi(), urls, versions);
+            if (count > 0) {
+                dataManager.applyIconUrls(urls, versions);
+                dataManager.saveIconUrls();
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Manifest fetch failed", e);
+            return Result.retry();
+        }
+
+        // 매니페스트가 적용된 최신 스냅샷 기준으로 예열
+        List<MenuItem> menuList = dataManager.getMenuList();
+        int warmed = warmThumbnails(context, menuList);
+        Log.d(TAG, "Thumbnails warmed: " + warmed + "/" + menuList.size());
+        return Result.success();
+    }
+
+    private String getIconApi() {
+        String iconApi = getInputData().getString(KEY_ICON_API);
+        return iconApi != null && !iconApi.isEmpty() ? iconApi : MainActivity.ICON_API;
+    }
+
+    private int fetchManifest(Context context, String iconApi, Map<String, String> urls,
+                              Map<String, String> versions) throws IOException {
+        Request req = new Request.Builder()
+                .url(iconApi)
+                .header("User-Agent", HttpClientProvider.USER_AGENT)
+                .build();
+
+        try (Response response = HttpClientProvider.getClient(context).newCall(req).execute()) {
+            if (!response.isSuccessful()) {
+                throw new IOException("HTTP " + response.code());
+            }
+            ResponseBody body = response.body();
+            if (body == null) {
+                throw new IOException("Empty body");
+            }
+            return IconManifestReader.readInto(body.byteStream(), urls, versions);
+        }
+    }
+
+    /**
+     * 썸네일 원본을 디스크 캐시에 저장
+     * 그리드와 같은 URL/시그니처를 사용하므로 포그라운드 로드 시 디스크 캐시에서 바로 디코딩됨
+     */
+    private int warmThumbnails(Context context, List<MenuItem> menuList) {
+        List<FutureTarget<File>> futures = new ArrayList<>();
+        for (MenuItem vo : menuList) {
+            if (vo.iconUrl == null || vo.iconUrl.isEmpty()) {
+                continue;
+            }
+            futures.add(Glide.with(context)
+                    .download(vo.iconUrl)
+                    .signature(IconSignatures.of(vo))
+                    .submit());
+        }
+
+        int warmed = 0;
+        for (FutureTarget<File> future : futures) {
+            if (isStopped()) {
+                break;
+            }
+            try {
+                future.get(DOWNLOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                warmed++;
+            } catch (Exception e) {
+                Log.w(TAG, "Thumbnail download failed", e);
+            }
+        }
+
+        for (FutureTarget<File> future : futures) {
+            Glide.with(context).clear(future);
+        }
+        return warmed;
+    }
+}
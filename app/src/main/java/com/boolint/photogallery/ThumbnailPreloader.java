@@ -0,0 +1,260 @@
+package com.boolint.photogallery;
+
+import android.graphics.drawable.Drawable;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.recyclerview.widget.GridLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
+import com.bumptech.glide.load.DataSource;
+import com.bumptech.glide.load.engine.GlideException;
+import com.bumptech.glide.request.RequestListener;
+import com.bumptech.glide.request.target.Target;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+
+/**
+ * 그리드 스크롤 속도 기반 썸네일 프리로더
+ * - 스크롤 방향의 다음 행들을 Glide 메모리 캐시에 미리 디코딩
+ * - 선행 로드 행 수는 스크롤 속도에 비례 (최소 1행 ~ 최대 MAX_LOOKAHEAD_ROWS행)
+ * - 스크롤 방향이 바뀌면 진행 중인 프리로드 취소
+ * - 프리로드한 썸네일이 바인딩 시 메모리 캐시에서 나왔는지 집계 (getBindListener, 디버그 빌드만)
+ */
+public class ThumbnailPreloader extends RecyclerView.OnScrollListener {
+    private static final String TAG = "ThumbnailPreloader";
+
+    private static final int MIN_LOOKAHEAD_ROWS = 1;
+    private static final int MAX_LOOKAHEAD_ROWS = 6;
+
+    // 속도(px/ms)가 이 값만큼 늘어날 때마다 1행씩 추가로 선행 로드
+    private static final float VELOCITY_PER_ROW = 1.5f;
+
+    // 속도 평활화 계수 (0~1, 클수록 최근 값 반영)
+    private static final float VELOCITY_SMOOTHING = 0.3f;
+
+    // 적중률 로그 주기 (프리로드된 모델의 바인딩 수)
+    private static final int HIT_LOG_INTERVAL = 30;
+
+    // 적중 집계는 디버그 빌드에서만 (릴리스 효과는 매크로벤치마크로 측정)
+    private static final boolean TRACK_HITS = BuildConfig.DEBUG;
+
+    private final RequestManager requestManager;
+    private final MainActivity.MenuAdapter adapter;
+    private final ArrayDeque<Target<Drawable>> inFlight = new ArrayDeque<>();
+
+    private int columns;
+    private int direction = 0;          // 1: 아래로, -1: 위로
+    private float velocity = 0f;        // px/ms (평활화된 절대값)
+    private long lastScrollTime = 0L;
+
+    // 현재 방향으로 이미 프리로드 요청한 경계 위치
+    private int preloadedUntil = RecyclerView.NO_POSITION;
+    private int preloadedFrom = RecyclerView.NO_POSITION;
+
+    // 프리로드한 모델(URL) - 바인딩되면 제거, 오래된 것부터 정리
+    private final LinkedHashSet<Object> preloadedModels = new LinkedHashSet<>();
+    private int preloadHits = 0;   // 바인딩 결과가 MEMORY_CACHE
+    private int preloadMisses = 0; // 프리로드했지만 바인딩 시 다시 디코딩/다운로드
+
+    /**
+     * 그리드 바인딩 요청에 추가하는 리스너
+     * 프리로드한 모델의 바인딩이 메모리 캐시에서 끝나면 적중 (같은 캐시 키를 쓰고 있다는 확인)
+     */
+    private final RequestListener<Drawable> bindListener = new RequestListener<Drawable>() {
+        @Override
+        public boolean onLoadFailed(@Nullable GlideException e, Object model,
+                                    @NonNull Target<Drawable> target, boolean isFirstResource) {
+            preloadedModels.remove(model);
+            return false;
+        }
+
+        @Override
+        public boolean onResourceReady(@NonNull Drawable resource, @NonNull Object model,
+                                       Target<Drawable> target, @NonNull DataSource dataSource,
+                                       boolean isFirstResource) {
+            if (preloadedModels.remove(model)) {
+                if (dataSource == DataSource.MEMORY_CACHE) {
+                    preloadHits++;
+                } else {
+                    preloadMisses++;
+                    Log.d(TAG, "Preload miss (" + dataSource + "): " + model);
+                }
+                if ((preloadHits + preloadMisses) % HIT_LOG_INTERVAL == 0) {
+                    Log.d(TAG, "Preload hits: " + preloadHits + "/" + (preloadHits + preloadMisses));
+                }
+            }
+            return false;
+        }
+    };
+
+    public ThumbnailPreloader(RequestManager requestManager,
+                              MainActivity.MenuAdapter adapter,
+                              int columns) {
+        this.requestManager = requestManager;
+        this.adapter = adapter;
+        this.columns = Math.max(1, columns);
+    }
+
+    /**
+     * 화면 회전 등으로 컬럼 수가 바뀐 경우 호출
+     */
+    public void setColumns(int columns) {
+        this.columns = Math.max(1, columns);
+        cancelAll();
+    }
+
+    @Override
+    public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+        if (dy == 0) {
+            return;
+        }
+
+        int newDirection = dy > 0 ? 1 : -1;
+        if (newDirection != direction) {
+            cancelAll();
+            direction = newDirection;
+        }
+
+        updateVelocity(Math.abs(dy));
+
+        RecyclerView.LayoutManager layoutManager = recyclerView.getLayoutManager();
+        if (!(layoutManager instanceof GridLayoutManager)) {
+            return;
+        }
+        GridLayoutManager grid = (GridLayoutManager) layoutManager;
+
+        int itemCount = adapter.getItemCount();
+        int lookaheadItems = getLookaheadRows() * columns;
+
+        if (direction > 0) {
+            int lastVisible = grid.findLastVisibleItemPosition();
+            if (lastVisible == RecyclerView.NO_POSITION) {
+                return;
+            }
+            int start = Math.max(lastVisible + 1, preloadedUntil + 1);
+            int end = Math.min(lastVisible + lookaheadItems, itemCount - 1);
+            for (int position = start; position <= end; position++) {
+                preload(position);
+            }
+            preloadedUntil = Math.max(preloadedUntil, end);
+        } else {
+            int firstVisible = grid.findFirstVisibleItemPosition();
+            if (firstVisible == RecyclerView.NO_POSITION) {
+                return;
+            }
+            int start = preloadedFrom == RecyclerView.NO_POSITION
+                    ? firstVisible - 1
+                    : Math.min(firstVisible - 1, preloadedFrom - 1);
+            int end = Math.max(firstVisible - lookaheadItems, 0);
+            for (int position = start; position >= end; position--) {
+                preload(position);
+            }
+            if (start >= end) {
+                preloadedFrom = preloadedFrom == RecyclerView.NO_POSITION
+                        ? end : Math.min(preloadedFrom, end);
+            }
+        }
+    }
+
+    @Override
+    public void onScrollStateChanged(@NonNull RecyclerView recyclerView, int newState) {
+        if (newState == RecyclerView.SCROLL_STATE_IDLE) {
+            velocity = 0f;
+            lastScrollTime = 0L;
+        }
+    }
+
+    private void updateVelocity(int distance) {
+        long now = SystemClock.uptimeMillis();
+        if (lastScrollTime > 0L) {
+            long elapsed = Math.max(1L, now - lastScrollTime);
+            float instant = distance / (float) elapsed;
+            velocity += (instant - velocity) * VELOCITY_SMOOTHING;
+        }
+        lastScrollTime = now;
+    }
+
+    private int getLookaheadRows() {
+        int rows = MIN_LOOKAHEAD_ROWS + (int) (velocity / VELOCITY_PER_ROW);
+        return Math.min(rows, MAX_LOOKAHEAD_ROWS);
+    }
+
+    private void preload(int position) {
+        if (position < 0 || position >= adapter.getItemCount()) {
+            return;
+        }
+        RequestBuilder<Drawable> request =
+                adapter.buildThumbnailRequest(requestManager, position);
+        if (request == null) {
+            return;
+        }
+
+        inFlight.addLast(request.preload());
+        if (TRACK_HITS) {
+            Object model = adapter.getThumbnailModel(position);
+            if (model != null) {
+                preloadedModels.add(model);
+            }
+        }
+
+        // 오래된 요청은 정리 (아직 진행 중이면 취소, 완료된 썸네일은 메모리 캐시에 남음)
+        int maxInFlight = MAX_LOOKAHEAD_ROWS * columns;
+        while (inFlight.size() > maxInFlight) {
+            requestManager.clear(inFlight.pollFirst());
+        }
+        // 바인딩되지 않고 지나간 모델은 집계 대상에서 제외
+        Iterator<Object> models = preloadedModels.iterator();
+        while (preloadedModels.size() > 2 * maxInFlight && models.hasNext()) {
+            models.next();
+            models.remove();
+        }
+    }
+
+    /**
+     * 바인딩 요청에 추가할 적중 집계 리스너
+     *
+     * @return 릴리스 빌드에서는 null (바인딩마다 리스너/로그 비용을 쓰지 않음)
+     */
+    @Nullable
+    public RequestListener<Drawable> getBindListener() {
+        return TRACK_HITS ? bindListener : null;
+    }
+
+    public int getPreloadHits() {
+        return preloadHits;
+    }
+
+    public int getPreloadMisses() {
+        return preloadMisses;
+    }
+
+    /**
+     * 어댑터 목록이 바뀐 경우 호출 (검색/속성 필터/섹션 전환)
+     * 같은 위치에 다른 항목이 오므로 프리로드 경계를 초기화 (진행 중인 요청은 유지)
+     */
+    public void onListChanged() {
+        preloadedUntil = RecyclerView.NO_POSITION;
+        preloadedFrom = RecyclerView.NO_POSITION;
+    }
+
+    /**
+     * 진행 중인 프리로드를 모두 취소하고 상태 초기화
+     */
+    public void cancelAll() {
+        Target<Drawable> target;
+        while ((target = inFlight.pollFirst()) != null) {
+            requestManager.clear(target);
+        }
+        preloadedUntil = RecyclerView.NO_POSITION;
+        preloadedFrom = RecyclerView.NO_POSITION;
+        velocity = 0f;
+        lastScrollTime = 0L;
+    }
+}
@@ -0,0 +1,68 @@
+package com.boolint.photogallery;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * DataManager 속성 색인 지연 생성 (스냅샷이 바뀐 뒤 처음 조회할 때만 다시 생성)
+ */
+public class DataManagerTest {
+
+    // 프로세스 싱글톤 대신 테스트마다 새 인스턴스 (실행 순서와 무관)
+    private final DataManager dataManager = new DataManager();
+
+    @Before
+    public void setUp() {
+        dataManager.setMenuList(Arrays.asList(
+                MenuCatalogTest.item("0", "IMG", "radar", "ko", null),
+                MenuCatalogTest.item("1", "IMGS", "satellite", "ko", "ea"),
+                MenuCatalogTest.item("2", "MAP", "radar", "ea", null)));
+    }
+
+    @Test
+    public void facetIndex_reusedForSameSnapshot() {
+        MenuFacetIndex index = dataManager.getFacetIndex();
+
+        assertSame(dataManager.getCatalog(), index.getCatalog());
+        assertSame(index, dataManager.getFacetIndex());
+
+        // 바뀐 항목이 없으면 스냅샷도 그대로
+        dataManager.applyIconUrls(Collections.emptyMap(), Collections.emptyMap());
+        assertSame(index, dataManager.getFacetIndex());
+    }
+
+    @Test
+    public void facetIndex_rebuiltAfterSnapshotChange() {
+        MenuFacetIndex index = dataManager.getFacetIndex();
+
+        dataManager.applyIconUrls(Collections.singletonMap("opt1", "http://example.com/1.png"),
+                Collections.emptyMap());
+        MenuFacetIndex rebuilt = dataManager.getFacetIndex();
+        assertNotSame(index, rebuilt);
+        assertSame(dataManager.getCatalog(), rebuilt.getCatalog());
+
+        dataManager.addMenuItem(MenuCatalogTest.item("3", "IMG", "typhoon", "fd", null));
+        assertTrue(dataManager.getFacetIndex().getValues(MenuFacetIndex.Facet.KIND).contains("typhoon"));
+    }
+
+    @Test
+    public void filteredMenuList_usesCurrentSnapshot() {
+        dataManager.setFacetQuery(MenuFacetQuery.EMPTY.with(MenuFacetIndex.Facet.KIND, "radar", true));
+        assertEquals(2, dataManager.getFilteredMenuList().size());
+
+        dataManager.applyIconUrls(Collections.singletonMap("opt2", "http://example.com/2.png"),
+                Collections.emptyMap());
+        List<MenuItem> filtered = dataManager.getFilteredMenuList();
+        assertEquals(2, filtered.size());
+        assertEquals("http://example.com/2.png", filtered.get(1).iconUrl);
+
+        dataManager.setFacetQuery(null);
+        assertSame(dataManager.getMenuList(), dataManager.getFilteredMenuList());
+    }
+}
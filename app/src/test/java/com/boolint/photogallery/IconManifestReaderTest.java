@@ -0,0 +1,140 @@
+package com.boolint.photogallery;
+
+import com.bumptech.glide.signature.EmptySignature;
+import com.bumptech.glide.signature.ObjectKey;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * IconManifestReader 매니페스트 스트리밍 파싱
+ */
+public class IconManifestReaderTest {
+
+    private static InputStream json(String value) {
+        return new ByteArrayInputStream(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> readEntries(String manifest) throws IOException {
+        List<String> entries = new ArrayList<>();
+        int count = IconManifestReader.read(json(manifest),
+                (argument, url, version) -> entries.add(argument + "|" + url + "|" + version));
+        assertEquals(entries.size(), count);
+        return entries;
+    }
+
+    @Test
+    public void readsEntriesInOrder() throws IOException {
+        List<String> entries = readEntries("{\"result\":\"ok\",\"files\":["
+                + "{\"argument\":\"vis_ko\",\"url\":\"http://a/vis.png\"},"
+                + "{\"argument\":\"rdr_ko\",\"size\":{\"w\":1},\"url\":\"http://a/rdr.png\"}"
+                + "]}");
+
+        assertEquals(2, entries.size());
+        assertEquals("vis_ko|http://a/vis.png|", entries.get(0));
+        assertEquals("rdr_ko|http://a/rdr.png|", entries.get(1));
+    }
+
+    @Test
+    public void versionField_followsPriority() throws IOException {
+        List<String> entries = readEntries("{\"files\":["
+                + "{\"time\":\"t\",\"etag\":\"e\",\"argument\":\"a\",\"hash\":\"h\",\"url\":\"u\"},"
+                + "{\"argument\":\"b\",\"url\":\"u\",\"hash\":\"\",\"lastModified\":1700000000}"
+                + "]}");
+
+        assertEquals("a|u|h", entries.get(0));
+        // 빈 값은 건너뛰고, 숫자 값도 문자열로 사용
+        assertEquals("b|u|1700000000", entries.get(1));
+    }
+
+    @Test
+    public void missingVersion_isEmpty() throws IOException {
+        List<String> entries = readEntries("{\"files\":[{\"argument\":\"a\",\"url\":\"u\"}]}");
+
+        assertEquals("a|u|", entries.get(0));
+    }
+
+    @Test
+    public void noVersionManifest_givesStableSignature() throws IOException {
+        // 실제 ThumbKr.jsp 형식 (argument/url만 있음)
+        String manifest = "{\"files\":[{\"argument\":\"opt0\",\"url\":\"http://a/vis_202610170900.png\"}]}";
+
+        MenuItem first = readIntoCatalog(manifest).get(0);
+        MenuItem second = readIntoCatalog(manifest).get(0);
+
+        assertEquals("", first.iconVersion);
+        // 읽은 시각과 무관하게 같은 키 (그리드 / 상세 / 예열이 같은 캐시 항목 사용)
+        assertEquals(IconSignatures.of(first), IconSignatures.of(second));
+        assertEquals(EmptySignature.obtain(), IconSignatures.of(first));
+    }
+
+    @Test
+    public void versionedManifest_signatureFollowsVersion() throws IOException {
+        MenuItem v1 = readIntoCatalog("{\"files\":[{\"argument\":\"opt0\",\"url\":\"u\",\"version\":\"1\"}]}").get(0);
+        MenuItem v2 = readIntoCatalog("{\"files\":[{\"argument\":\"opt0\",\"url\":\"u\",\"version\":\"2\"}]}").get(0);
+
+        assertEquals(new ObjectKey("1"), IconSignatures.of(v1));
+        assertNotEquals(IconSignatures.of(v1), IconSignatures.of(v2));
+    }
+
+    private static MenuCatalog readIntoCatalog(String manifest) throws IOException {
+        Map<String, String> urls = new HashMap<>();
+        Map<String, String> versions = new HashMap<>();
+        IconManifestReader.readInto(json(manifest), urls, versions);
+        return new MenuCatalog(Collections.singletonList(MenuCatalogTest.item("0", "IMG", "radar", "ko", null)))
+                .withIcons(urls, versions);
+    }
+
+    @Test
+    public void invalidEntries_areSkipped() throws IOException {
+        List<String> entries = readEntries("{\"files\":["
+                + "\"text\", 1, null,"
+                + "{\"argument\":\"\",\"url\":\"u\"},"
+                + "{\"argument\":\"a\"},"
+                + "{\"argument\":null,\"url\":\"u\"},"
+                + "{\"argument\":\"ok\",\"url\":\"u\"}"
+                + "]}");
+
+        assertEquals(1, entries.size());
+        assertEquals("ok|u|", entries.get(0));
+    }
+
+    @Test
+    public void missingFiles_readsNothing() throws IOException {
+        assertTrue(readEntries("{\"files\":{\"argument\":\"a\",\"url\":\"u\"}}").isEmpty());
+        assertTrue(readEntries("{}").isEmpty());
+    }
+
+    @Test
+    public void readInto_fillsMaps() throws IOException {
+        Map<String, String> urls = new HashMap<>();
+        Map<String, String> versions = new HashMap<>();
+
+        int count = IconManifestReader.readInto(json("{\"files\":["
+                + "{\"argument\":\"a\",\"url\":\"u1\",\"version\":\"v1\"},"
+                + "{\"argument\":\"b\",\"url\":\"u2\"}"
+                + "]}"), urls, versions);
+
+        assertEquals(2, count);
+        assertEquals("u1", urls.get("a"));
+        assertEquals("v1", versions.get("a"));
+        assertEquals("u2", urls.get("b"));
+        assertEquals("", versions.get("b"));
+    }
+
+    @Test(expected = IOException.class)
+    public void malformed_throws() throws IOException {
+        readEntries("{\"files\":[{\"argument\":\"a\",");
+    }
+}
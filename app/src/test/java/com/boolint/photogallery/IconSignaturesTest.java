@@ -0,0 +1,48 @@
+package com.boolint.photogallery;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * IconSignatures - 그리드 바인딩 / 상세 화면 / 터치 프리페치가 같은 캐시 키를 만드는지
+ */
+public class IconSignaturesTest {
+
+    private static MenuItem withIcon(String url, String version) {
+        return MenuCatalogTest.item("0", "IMG", "radar", "ko", null).withIcon(url, version);
+    }
+
+    @Test
+    public void sameValues_sameKey() {
+        // 그리드 Row 생성 시점과 상세 화면 진입 시점에 각각 만든 키
+        MenuItem item = withIcon("http://a/vis.png", "");
+        MenuItem copy = withIcon("http://a/vis.png", "");
+
+        assertEquals(IconSignatures.of(item), IconSignatures.of(item));
+        assertEquals(IconSignatures.of(item), IconSignatures.of(copy));
+        assertEquals(IconSignatures.of(withIcon("u", "3")), IconSignatures.of(withIcon("u", "3")));
+    }
+
+    @Test
+    public void versionChange_changesKey() {
+        assertNotEquals(IconSignatures.of(withIcon("u", "1")), IconSignatures.of(withIcon("u", "2")));
+    }
+
+    @Test
+    public void unrelatedIconUpdate_keepsItemAndKey() {
+        MenuCatalog catalog = new MenuCatalog(Arrays.asList(
+                withIcon("http://a/0.png", ""),
+                MenuCatalogTest.item("1", "IMG", "radar", "ko", null)));
+        MenuItem gridItem = catalog.get(0);
+
+        MenuCatalog updated = catalog.withIcons(
+                Collections.singletonMap("opt1", "http://a/1.png"), Collections.emptyMap());
+
+        assertSame(gridItem, updated.get(0));
+        assertEquals(IconSignatures.of(gridItem), IconSignatures.of(updated.get(0)));
+    }
+}
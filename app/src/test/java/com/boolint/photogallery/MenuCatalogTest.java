@@ -0,0 +1,134 @@
+package com.boolint.photogallery;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * MenuCatalog 불변 스냅샷 / 인덱스 조회 / 위치 선택 / 아이콘 스냅샷 교체
+ */
+public class MenuCatalogTest {
+
+    private final MenuCatalog catalog = new MenuCatalog(Arrays.asList(
+            item("0", "IMG", "radar", "ko", null),
+            item("1", "IMGS", "satellite", "ko", "ea"),
+            item("2", "MAP", "radar", "ea", null)));
+
+    static MenuItem item(String id, String actType, String kind, String area0, String area1) {
+        MenuItem vo = new MenuItem();
+        vo.id = id;
+        vo.actType = actType;
+        vo.kind = kind;
+        vo.area0 = area0;
+        vo.area1 = area1;
+        vo.apiOption = "opt" + id;
+        return vo;
+    }
+
+    @Test
+    public void get_outOfRange_returnsNull() {
+        assertNull(catalog.get(-1));
+        assertNull(catalog.get(3));
+        assertEquals("2", catalog.get(2).id);
+    }
+
+    @Test
+    public void indexes_findItems() {
+        assertSame(catalog.get(1), catalog.findById("1"));
+        assertNull(catalog.findById("missing"));
+        assertNull(catalog.findById(null));
+
+        assertEquals(Arrays.asList(catalog.get(0), catalog.get(2)), catalog.findByKind("radar"));
+        assertSame(catalog.get(2), catalog.findByApiOption("opt2").get(0));
+        assertTrue(catalog.findByApiOption("missing").isEmpty());
+        assertTrue(catalog.findByKind(null).isEmpty());
+    }
+
+    @Test
+    public void snapshot_isIndependentOfSource() {
+        List<MenuItem> source = new ArrayList<>(catalog.getItems());
+        MenuCatalog copy = new MenuCatalog(source);
+        source.clear();
+
+        assertEquals(3, copy.size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void items_areUnmodifiable() {
+        catalog.getItems().clear();
+    }
+
+    @Test
+    public void plusAndMinus_returnNewSnapshots() {
+        MenuCatalog added = catalog.plus(Arrays.asList(item("3", "IMG", "typhoon", "fd", null)));
+        assertEquals(3, catalog.size());
+        assertEquals(4, added.size());
+        assertEquals("3", added.findById("3").id);
+
+        MenuCatalog removed = added.minus(0);
+        assertEquals(3, removed.size());
+        assertNull(removed.findById("0"));
+        assertSame(added, added.minus(10));
+    }
+
+    @Test
+    public void select_null_returnsAllItems() {
+        assertSame(catalog.getItems(), catalog.select(null));
+    }
+
+    @Test
+    public void select_empty_returnsEmptyList() {
+        assertTrue(catalog.select(new BitSet()).isEmpty());
+    }
+
+    @Test
+    public void select_ignoresPositionsPastEnd() {
+        BitSet positions = new BitSet();
+        positions.set(1);
+        positions.set(3);
+        positions.set(100);
+
+        List<MenuItem> result = catalog.select(positions);
+        assertEquals(1, result.size());
+        assertEquals("1", result.get(0).id);
+    }
+
+    @Test
+    public void withIcons_copiesOnlyChangedItems() {
+        Map<String, String> urls = new HashMap<>();
+        Map<String, String> versions = new HashMap<>();
+        urls.put("opt1", "http://example.com/1.png");
+        versions.put("opt1", "v1");
+        urls.put("unknown", "http://example.com/x.png");
+
+        MenuCatalog updated = catalog.withIcons(urls, versions);
+
+        assertNotSame(catalog, updated);
+        assertSame(catalog.get(0), updated.get(0));
+        assertSame(catalog.get(2), updated.get(2));
+        assertNotSame(catalog.get(1), updated.get(1));
+        assertEquals("http://example.com/1.png", updated.get(1).iconUrl);
+        assertEquals("v1", updated.get(1).iconVersion);
+        // 기존 스냅샷의 MenuItem은 수정하지 않음
+        assertEquals("", catalog.get(1).iconUrl);
+        assertSame(updated.get(1), updated.findById("1"));
+        assertSame(updated.get(1), updated.findByApiOption("opt1").get(0));
+    }
+
+    @Test
+    public void withIcons_unchanged_returnsSameSnapshot() {
+        Map<String, String> urls = Collections.singletonMap("opt0", "http://example.com/0.png");
+        MenuCatalog updated = catalog.withIcons(urls, Collections.emptyMap());
+
+        assertSame(updated, updated.withIcons(urls, Collections.emptyMap()));
+        assertSame(catalog, catalog.withIcons(Collections.emptyMap(), Collections.emptyMap()));
+    }
+}
@@ -0,0 +1,129 @@
+package com.boolint.photogallery;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * MenuFacetIndex / MenuFacetQuery 속성 필터 (같은 속성 OR, 속성 사이 AND)
+ */
+public class MenuFacetIndexTest {
+
+    private MenuCatalog catalog;
+    private MenuFacetIndex index;
+
+    @Before
+    public void setUp() {
+        catalog = new MenuCatalog(Arrays.asList(
+                MenuCatalogTest.item("0", "IMG", "radar", "ko020lc", "ko"),
+                MenuCatalogTest.item("1", "IMGS", "satellite", "ea020lc", "ea"),
+                MenuCatalogTest.item("2", "MAP", "radar", "ea020lc", "ea"),
+                MenuCatalogTest.item("3", "IMG", "typhoon", "fd020ge", "fd")));
+        index = MenuFacetIndex.build(catalog);
+    }
+
+    private static BitSet bits(int... positions) {
+        BitSet bits = new BitSet();
+        for (int position : positions) {
+            bits.set(position);
+        }
+        return bits;
+    }
+
+    @Test
+    public void emptyQuery_matchesAll() {
+        assertNull(index.match(MenuFacetQuery.EMPTY));
+        assertSame(catalog.getItems(), catalog.select(index.match(MenuFacetQuery.EMPTY)));
+    }
+
+    @Test
+    public void valuesOfSameFacet_areOr() {
+        MenuFacetQuery query = MenuFacetQuery.EMPTY
+                .with(MenuFacetIndex.Facet.KIND, "radar", true)
+                .with(MenuFacetIndex.Facet.KIND, "typhoon", true);
+
+        assertEquals(bits(0, 2, 3), index.match(query));
+    }
+
+    @Test
+    public void differentFacets_areAnd() {
+        MenuFacetQuery query = MenuFacetQuery.EMPTY
+                .with(MenuFacetIndex.Facet.KIND, "radar", true)
+                .with(MenuFacetIndex.Facet.AREA, "ko", true);
+
+        assertEquals(bits(0), index.match(query));
+
+        query = query.with(MenuFacetIndex.Facet.AREA, "ea", true);
+        assertEquals(bits(0, 2), index.match(query));
+
+        query = query.with(MenuFacetIndex.Facet.ACT_TYPE, "IMGS", true);
+        assertTrue(index.match(query).isEmpty());
+    }
+
+    @Test
+    public void area_usesRegionCodeOnly() {
+        MenuFacetQuery query = MenuFacetQuery.EMPTY.with(MenuFacetIndex.Facet.AREA, "ea", true);
+        assertEquals(bits(1, 2), index.match(query));
+
+        // area0 세부 코드는 값 목록에도, 질의 대상에도 없음
+        assertFalse(index.getValues(MenuFacetIndex.Facet.AREA).contains("ea020lc"));
+        query = MenuFacetQuery.EMPTY.with(MenuFacetIndex.Facet.AREA, "ea020lc", true);
+        assertTrue(index.match(query).isEmpty());
+    }
+
+    @Test
+    public void unknownValue_matchesNothing() {
+        MenuFacetQuery query = MenuFacetQuery.EMPTY.with(MenuFacetIndex.Facet.KIND, "unknown", true);
+
+        assertTrue(index.match(query).isEmpty());
+        assertTrue(catalog.select(index.match(query)).isEmpty());
+    }
+
+    @Test
+    public void values_keepCatalogOrder() {
+        assertEquals(Arrays.asList("radar", "satellite", "typhoon"),
+                Arrays.asList(index.getValues(MenuFacetIndex.Facet.KIND).toArray()));
+        assertEquals(Arrays.asList("ko", "ea", "fd"),
+                Arrays.asList(index.getValues(MenuFacetIndex.Facet.AREA).toArray()));
+    }
+
+    @Test
+    public void match_returnsIndependentBits() {
+        MenuFacetQuery query = MenuFacetQuery.EMPTY.with(MenuFacetIndex.Facet.KIND, "radar", true);
+
+        index.match(query).clear();
+        assertEquals(bits(0, 2), index.match(query));
+    }
+
+    @Test
+    public void select_keepsCatalogOrder() {
+        MenuFacetQuery query = MenuFacetQuery.EMPTY
+                .with(MenuFacetIndex.Facet.KIND, "typhoon", true)
+                .with(MenuFacetIndex.Facet.KIND, "radar", true);
+
+        List<MenuItem> result = catalog.select(index.match(query));
+        assertEquals(3, result.size());
+        assertEquals("0", result.get(0).id);
+        assertEquals("2", result.get(1).id);
+        assertEquals("3", result.get(2).id);
+    }
+
+    @Test
+    public void query_isImmutable() {
+        MenuFacetQuery radar = MenuFacetQuery.EMPTY.with(MenuFacetIndex.Facet.KIND, "radar", true);
+
+        assertTrue(MenuFacetQuery.EMPTY.isEmpty());
+        assertSame(radar, radar.with(MenuFacetIndex.Facet.KIND, "radar", true));
+        assertSame(radar, radar.with(MenuFacetIndex.Facet.AREA, "ko", false));
+
+        MenuFacetQuery cleared = radar.with(MenuFacetIndex.Facet.KIND, "radar", false);
+        assertTrue(cleared.isEmpty());
+        assertTrue(radar.isSelected(MenuFacetIndex.Facet.KIND, "radar"));
+        assertTrue(cleared.getSelected(MenuFacetIndex.Facet.KIND).isEmpty());
+    }
+}
@@ -0,0 +1,91 @@
+package com.boolint.photogallery;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static org.junit.Assert.*;
+
+/**
+ * MenuSearchIndex 접두어/초성/입력 중 음절 검색
+ */
+public class MenuSearchIndexTest {
+
+    private MenuSearchIndex index;
+
+    @Before
+    public void setUp() {
+        index = MenuSearchIndex.build(Arrays.asList(
+                item("위성 영상", "satellite", "ko"),
+                item("레이더 합성", "radar", "ko"),
+                item("달걀 구름", "cloud", "ea"),
+                item("앉은 태풍 경로", "typhoon", "fd")));
+    }
+
+    private static MenuItem item(String title, String kind, String area0) {
+        MenuItem vo = new MenuItem();
+        vo.title = title;
+        vo.kind = kind;
+        vo.area0 = area0;
+        return vo;
+    }
+
+    private static BitSet bits(int... positions) {
+        BitSet bits = new BitSet();
+        for (int position : positions) {
+            bits.set(position);
+        }
+        return bits;
+    }
+
+    @Test
+    public void emptyQuery_matchesAll() {
+        assertNull(index.search(""));
+        assertNull(index.search("   "));
+    }
+
+    @Test
+    public void prefix() {
+        assertEquals(bits(0), index.search("위성"));
+        assertEquals(bits(0), index.search("위성영"));
+        assertEquals(bits(1), index.search("RAD"));
+        assertEquals(bits(3), index.search("태풍"));
+    }
+
+    @Test
+    public void choseong() {
+        assertEquals(bits(0), index.search("ㅇㅅ"));
+        assertEquals(bits(0), index.search("위ㅅ"));
+        assertEquals(bits(1), index.search("ㅎㅅ"));
+    }
+
+    @Test
+    public void composingLastSyllable() {
+        // 받침 입력 전
+        assertEquals(bits(0), index.search("위서"));
+        // 겹받침의 앞 자음까지만 입력
+        assertEquals(bits(3), index.search("안"));
+    }
+
+    @Test
+    public void composingJongseong_movesToNextSyllable() {
+        assertEquals(bits(0), index.search("윗"));
+        assertEquals(bits(2), index.search("닭"));
+        assertEquals(bits(1), index.search("핪"));
+    }
+
+    @Test
+    public void wrongSyllable_noMatch() {
+        assertTrue(index.search("위섣").isEmpty());
+        assertTrue(index.search("윅").isEmpty());
+    }
+
+    @Test
+    public void terms_areAnd() {
+        assertEquals(bits(0, 1), index.search("ko"));
+        assertEquals(bits(0), index.search("위성 ko"));
+        assertTrue(index.search("레이더 ea").isEmpty());
+    }
+}
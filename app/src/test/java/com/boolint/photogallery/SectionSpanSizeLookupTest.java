@@ -0,0 +1,115 @@
+package com.boolint.photogallery;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * SectionSpanSizeLookup 위치별 span 캐시와 부분 무효화
+ */
+public class SectionSpanSizeLookupTest {
+
+    // true = 섹션 헤더
+    private final List<Boolean> headers = new ArrayList<>();
+    private SectionSpanSizeLookup lookup;
+
+    @Before
+    public void setUp() {
+        // H i i i i H i
+        headers.addAll(Arrays.asList(true, false, false, false, false, true, false));
+        lookup = new SectionSpanSizeLookup(new SectionSpanSizeLookup.Sections() {
+            @Override
+            public int getItemCount() {
+                return headers.size();
+            }
+
+            @Override
+            public boolean isSectionHeader(int position) {
+                return headers.get(position);
+            }
+        }, 3);
+    }
+
+    private int[] spanIndexes() {
+        int[] result = new int[headers.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = lookup.getSpanIndex(i, lookup.getSpanCount());
+        }
+        return result;
+    }
+
+    private int[] groupIndexes() {
+        int[] result = new int[headers.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = lookup.getSpanGroupIndex(i, lookup.getSpanCount());
+        }
+        return result;
+    }
+
+    @Test
+    public void headerSpansFullRow() {
+        assertEquals(3, lookup.getSpanSize(0));
+        assertEquals(1, lookup.getSpanSize(1));
+
+        assertArrayEquals(new int[]{0, 0, 1, 2, 0, 0, 0}, spanIndexes());
+        assertArrayEquals(new int[]{0, 1, 1, 1, 2, 3, 4}, groupIndexes());
+    }
+
+    @Test
+    public void outOfRange_returnsZero() {
+        assertEquals(0, lookup.getSpanIndex(-1, 3));
+        assertEquals(0, lookup.getSpanGroupIndex(headers.size(), 3));
+        assertFalse(lookup.isSectionHeader(headers.size()));
+    }
+
+    @Test
+    public void invalidateFrom_recomputesOnlyTail() {
+        spanIndexes();
+
+        // 위치 3을 헤더로 바꾸고 그 위치부터 무효화 → H i i H i H i
+        headers.set(3, true);
+        lookup.invalidateFrom(3);
+
+        assertArrayEquals(new int[]{0, 0, 1, 0, 0, 0, 0}, spanIndexes());
+        assertArrayEquals(new int[]{0, 1, 1, 2, 3, 4, 5}, groupIndexes());
+    }
+
+    @Test
+    public void invalidateFrom_keepsPrefix() {
+        spanIndexes();
+
+        // 무효화 지점 앞의 변경은 반영되지 않음 (호출 측이 처음 달라진 위치를 넘겨야 함)
+        headers.set(1, true);
+        lookup.invalidateFrom(4);
+
+        assertEquals(1, lookup.getSpanIndex(2, 3));
+        assertEquals(1, lookup.getSpanGroupIndex(2, 3));
+    }
+
+    @Test
+    public void appendedItems_extendCache() {
+        spanIndexes();
+
+        headers.addAll(Arrays.asList(false, false, true));
+        lookup.invalidateFrom(7);
+
+        assertArrayEquals(new int[]{0, 0, 1, 2, 0, 0, 0, 1, 2, 0}, spanIndexes());
+        assertArrayEquals(new int[]{0, 1, 1, 1, 2, 3, 4, 4, 4, 5}, groupIndexes());
+    }
+
+    @Test
+    public void spanCountChange_invalidatesAll() {
+        spanIndexes();
+
+        lookup.setSpanCount(2);
+
+        assertEquals(2, lookup.getSpanSize(0));
+        assertArrayEquals(new int[]{0, 0, 1, 0, 1, 0, 0}, spanIndexes());
+        assertArrayEquals(new int[]{0, 1, 1, 2, 2, 3, 4}, groupIndexes());
+    }
+}
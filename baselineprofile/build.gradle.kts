@@ -0,0 +1,37 @@
+plugins {
+    alias(libs.plugins.android.test)
+    alias(libs.plugins.baselineprofile)
+}
+
+android {
+    namespace = "com.boolint.photogallery.baselineprofile"
+    compileSdk = 36
+
+    defaultConfig {
+        // BaselineProfileRule은 API 28 이상 (루팅되지 않은 기기는 API 33 이상) 필요
+        minSdk = 28
+        targetSdk = 36
+
+        testInstrumentationRunner = "androidx.test.runner.AndroidJUnitRunner"
+    }
+
+    compileOptions {
+        sourceCompatibility = JavaVersion.VERSION_11
+        targetCompatibility = JavaVersion.VERSION_11
+    }
+
+    targetProjectPath = ":app"
+}
+
+// 연결된 기기/에뮬레이터에서 프로파일 생성
+// ./gradlew :app:generateReleaseBaselineProfile
+baselineProfile {
+    useConnectedDevices = true
+}
+
+dependencies {
+    implementation(libs.ext.junit)
+    implementation(libs.espresso.core)
+    implementation(libs.uiautomator)
+    implementation(libs.benchmark.macro.junit4)
+}
@@ -0,0 +1,95 @@
+package com.boolint.photogallery.baselineprofile;
+
+import androidx.benchmark.macro.MacrobenchmarkScope;
+import androidx.benchmark.macro.junit4.BaselineProfileRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import androidx.test.filters.LargeTest;
+import androidx.test.uiautomator.By;
+import androidx.test.uiautomator.Direction;
+import androidx.test.uiautomator.UiDevice;
+import androidx.test.uiautomator.UiObject2;
+import androidx.test.uiautomator.Until;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+import kotlin.Unit;
+
+/**
+ * 베이스라인 프로파일 생성기
+ * 실행 → 그리드 스크롤 → 상세 화면(SampleActivity) 진입 경로를 기록해
+ * app 모듈의 release 빌드에 baseline-prof.txt / startup-prof.txt로 포함
+ *
+ * 실행: ./gradlew :app:generateReleaseBaselineProfile
+ */
+@RunWith(AndroidJUnit4.class)
+@LargeTest
+public class BaselineProfileGenerator {
+
+    static final String TARGET_PACKAGE = "com.boolint.photogallery";
+    private static final long UI_TIMEOUT_MS = 5_000;
+
+    @Rule
+    public BaselineProfileRule baselineProfileRule = new BaselineProfileRule();
+
+    @Test
+    public void generate() {
+        baselineProfileRule.collect(
+                TARGET_PACKAGE,
+                15,     // maxIterations
+                3,      // stableIterations
+                null,   // outputFilePrefix
+                true,   // includeInStartupProfile
+                false,  // strictStability
+                className -> true,
+                scope -> {
+                    scope.pressHome();
+                    scope.startActivityAndWait();
+                    scrollGrid(scope);
+                    openDetail(scope);
+                    return Unit.INSTANCE;
+                });
+    }
+
+    /**
+     * 그리드를 아래/위로 플링 (MenuAdapter 바인딩, Glide 로드 경로)
+     */
+    static void scrollGrid(MacrobenchmarkScope scope) {
+        UiDevice device = scope.getDevice();
+        UiObject2 grid = device.wait(Until.findObject(By.res(TARGET_PACKAGE, "recyclerView")), UI_TIMEOUT_MS);
+        if (grid == null) {
+            return;
+        }
+
+        // 시스템 제스처 영역 회피
+        grid.setGestureMargin(device.getDisplayWidth() / 5);
+        grid.fling(Direction.DOWN);
+        device.waitForIdle();
+        grid.fling(Direction.UP);
+        device.waitForIdle();
+    }
+
+    /**
+     * 첫 타일을 눌러 SampleActivity 진입 후 복귀
+     */
+    static void openDetail(MacrobenchmarkScope scope) {
+        UiDevice device = scope.getDevice();
+        UiObject2 grid = device.wait(Until.findObject(By.res(TARGET_PACKAGE, "recyclerView")), UI_TIMEOUT_MS);
+        if (grid == null) {
+            return;
+        }
+
+        List<UiObject2> tiles = grid.getChildren();
+        if (tiles.isEmpty()) {
+            return;
+        }
+        tiles.get(0).click();
+        device.wait(Until.hasObject(By.res(TARGET_PACKAGE, "imageView")), UI_TIMEOUT_MS);
+        device.waitForIdle();
+        device.pressBack();
+        device.wait(Until.hasObject(By.res(TARGET_PACKAGE, "recyclerView")), UI_TIMEOUT_MS);
+    }
+}
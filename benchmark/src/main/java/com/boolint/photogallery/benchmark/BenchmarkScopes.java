@@ -0,0 +1,63 @@
+package com.boolint.photogallery.benchmark;
+
+import androidx.benchmark.macro.MacrobenchmarkScope;
+import androidx.test.uiautomator.By;
+import androidx.test.uiautomator.UiDevice;
+import androidx.test.uiautomator.UiObject2;
+import androidx.test.uiautomator.Until;
+
+import kotlin.Unit;
+
+/**
+ * 벤치마크 공통 동작
+ */
+final class BenchmarkScopes {
+
+    static final String TARGET_PACKAGE = "com.boolint.photogallery";
+
+    // MainActivity.EXTRA_ICON_API (benchmark 빌드 타입에서만 적용됨)
+    static final String EXTRA_ICON_API = "com.boolint.photogallery.extra.ICON_API";
+
+    // MainActivity.EXTRA_DEFER_AD_STARTUP (benchmark 빌드 타입에서만 적용됨)
+    static final String EXTRA_DEFER_AD_STARTUP = "com.boolint.photogallery.extra.DEFER_AD_STARTUP";
+
+    static final long UI_TIMEOUT_MS = 5_000;
+
+    private BenchmarkScopes() {
+    }
+
+    /**
+     * 로컬 서버 매니페스트를 쓰도록 MainActivity 실행 후 첫 프레임까지 대기
+     */
+    static void startMain(MacrobenchmarkScope scope, LocalIconServer server) {
+        startMain(scope, server, null);
+    }
+
+    /**
+     * 광고 시작 모드를 지정해 MainActivity 실행
+     *
+     * @param deferAdStartup 광고 시작을 첫 프레임 이후로 미룰지 여부 (null이면 앱 기본값)
+     */
+    static void startMain(MacrobenchmarkScope scope, LocalIconServer server, Boolean deferAdStartup) {
+        String manifestUrl = server.manifestUrl();
+        scope.startActivityAndWait(intent -> {
+            intent.putExtra(EXTRA_ICON_API, manifestUrl);
+            if (deferAdStartup != null) {
+                intent.putExtra(EXTRA_DEFER_AD_STARTUP, deferAdStartup.booleanValue());
+            }
+            return Unit.INSTANCE;
+        });
+    }
+
+    /**
+     * 그리드가 표시될 때까지 대기
+     */
+    static UiObject2 waitForGrid(MacrobenchmarkScope scope) {
+        UiDevice device = scope.getDevice();
+        UiObject2 grid = device.wait(Until.findObject(By.res(TARGET_PACKAGE, "recyclerView")), UI_TIMEOUT_MS);
+        if (grid == null) {
+            throw new IllegalStateException("recyclerView not found");
+        }
+        return grid;
+    }
+}
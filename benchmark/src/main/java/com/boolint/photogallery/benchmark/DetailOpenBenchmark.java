@@ -0,0 +1,86 @@
+package com.boolint.photogallery.benchmark;
+
+import androidx.annotation.OptIn;
+import androidx.benchmark.macro.CompilationMode;
+import androidx.benchmark.macro.ExperimentalMetricApi;
+import androidx.benchmark.macro.StartupMode;
+import androidx.benchmark.macro.TraceSectionMetric;
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule;
+import androidx.test.filters.LargeTest;
+import androidx.test.uiautomator.By;
+import androidx.test.uiautomator.UiDevice;
+import androidx.test.uiautomator.UiObject2;
+import androidx.test.uiautomator.Until;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import kotlin.Unit;
+
+/**
+ * 타일 탭 → SampleActivity 상세 이미지 표시까지의 지연
+ * MainActivity 클릭 시 시작해 SampleActivity 이미지 로드 완료 시 끝나는 "DetailOpen" 비동기 트레이스 섹션으로 측정
+ */
+@LargeTest
+@RunWith(JUnit4.class)
+public class DetailOpenBenchmark {
+
+    private static final int ITERATIONS = 10;
+
+    // MainActivity.TRACE_DETAIL_OPEN
+    private static final String TRACE_DETAIL_OPEN = "DetailOpen";
+
+    @Rule
+    public MacrobenchmarkRule benchmarkRule = new MacrobenchmarkRule();
+
+    private final LocalIconServer server = new LocalIconServer();
+
+    @Before
+    public void setUp() throws IOException {
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @OptIn(markerClass = ExperimentalMetricApi.class)
+    @Test
+    public void openDetail() {
+        benchmarkRule.measureRepeated(
+                BenchmarkScopes.TARGET_PACKAGE,
+                Collections.singletonList(new TraceSectionMetric(
+                        TRACE_DETAIL_OPEN, TraceSectionMetric.Mode.First.INSTANCE, TRACE_DETAIL_OPEN, true)),
+                CompilationMode.DEFAULT,
+                StartupMode.WARM,
+                ITERATIONS,
+                scope -> {
+                    scope.pressHome();
+                    BenchmarkScopes.startMain(scope, server);
+                    BenchmarkScopes.waitForGrid(scope);
+                    return Unit.INSTANCE;
+                },
+                scope -> {
+                    UiDevice device = scope.getDevice();
+                    List<UiObject2> tiles = BenchmarkScopes.waitForGrid(scope).getChildren();
+                    if (tiles.isEmpty()) {
+                        throw new IllegalStateException("grid has no tiles");
+                    }
+                    tiles.get(0).click();
+                    device.wait(Until.hasObject(By.res(BenchmarkScopes.TARGET_PACKAGE, "imageView")),
+                            BenchmarkScopes.UI_TIMEOUT_MS);
+                    device.waitForIdle();
+                    device.pressBack();
+                    return Unit.INSTANCE;
+                });
+    }
+}
@@ -0,0 +1,105 @@
+package com.boolint.photogallery.benchmark;
+
+import android.os.RemoteException;
+
+import androidx.benchmark.macro.CompilationMode;
+import androidx.benchmark.macro.FrameTimingMetric;
+import androidx.benchmark.macro.StartupMode;
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule;
+import androidx.test.filters.LargeTest;
+import androidx.test.platform.app.InstrumentationRegistry;
+import androidx.test.uiautomator.Direction;
+import androidx.test.uiautomator.UiDevice;
+import androidx.test.uiautomator.UiObject2;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import kotlin.Unit;
+
+/**
+ * 그리드 스크롤 프레임 시간
+ * - 세로(3열) / 가로(6열) 각각 측정 (ResponsiveLayoutHelper 규칙, 폴더블 펼침 상태 제외)
+ */
+@LargeTest
+@RunWith(Parameterized.class)
+public class GridScrollBenchmark {
+
+    private static final int ITERATIONS = 10;
+
+    @Parameterized.Parameters(name = "{0}columns")
+    public static Collection<Object[]> columns() {
+        return Arrays.asList(new Object[][]{
+                {3},
+                {6},
+        });
+    }
+
+    @Rule
+    public MacrobenchmarkRule benchmarkRule = new MacrobenchmarkRule();
+
+    private final int columns;
+    private final LocalIconServer server = new LocalIconServer();
+
+    public GridScrollBenchmark(int columns) {
+        this.columns = columns;
+    }
+
+    @Before
+    public void setUp() throws IOException, RemoteException {
+        server.start();
+
+        UiDevice device = UiDevice.getInstance(InstrumentationRegistry.getInstrumentation());
+        if (columns == 6) {
+            device.setOrientationLeft();
+        } else {
+            device.setOrientationNatural();
+        }
+    }
+
+    @After
+    public void tearDown() throws IOException, RemoteException {
+        server.shutdown();
+
+        UiDevice device = UiDevice.getInstance(InstrumentationRegistry.getInstrumentation());
+        device.setOrientationNatural();
+        device.unfreezeRotation();
+    }
+
+    @Test
+    public void scroll() {
+        benchmarkRule.measureRepeated(
+                BenchmarkScopes.TARGET_PACKAGE,
+                Collections.singletonList(new FrameTimingMetric()),
+                CompilationMode.DEFAULT,
+                StartupMode.WARM,
+                ITERATIONS,
+                scope -> {
+                    scope.pressHome();
+                    BenchmarkScopes.startMain(scope, server);
+                    BenchmarkScopes.waitForGrid(scope);
+                    return Unit.INSTANCE;
+                },
+                scope -> {
+                    UiDevice device = scope.getDevice();
+                    UiObject2 grid = BenchmarkScopes.waitForGrid(scope);
+
+                    // 시스템 제스처 영역 회피
+                    grid.setGestureMargin(device.getDisplayWidth() / 5);
+                    grid.fling(Direction.DOWN);
+                    device.waitForIdle();
+                    grid.fling(Direction.UP);
+                    device.waitForIdle();
+                    return Unit.INSTANCE;
+                });
+    }
+}
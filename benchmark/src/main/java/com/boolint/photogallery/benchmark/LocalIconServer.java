@@ -0,0 +1,117 @@
+package com.boolint.photogallery.benchmark;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+
+import androidx.annotation.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+
+/**
+ * 벤치마크용 로컬 대체 서버
+ * - /ThumbKr.jsp : 카탈로그의 모든 apiOption에 대한 아이콘 매니페스트
+ * - /img/{apiOption}.png : 항목별로 색이 다른 PNG 썸네일 (최초 요청 시 생성 후 재사용)
+ *
+ * 실제 서버의 응답 시간/가용성과 무관하게 측정값이 안정되도록 같은 기기(127.0.0.1)에서 응답
+ */
+final class LocalIconServer {
+
+    static final String MANIFEST_PATH = "/ThumbKr.jsp";
+    private static final String IMAGE_PATH_PREFIX = "/img/";
+
+    // app/src/main/catalog/menu_catalog.csv 의 apiOption 목록
+    private static final String[] API_OPTIONS = {
+            "vis_ko", "vis_ea", "vis_fd",
+            "inf_ko", "inf_ea", "inf_fd",
+            "wv_ko", "wv_ea", "wv_fd",
+            "composite_korea", "composite_infrared", "composite_JNI", "composite_map",
+            "snowrain_a", "temperature_a", "typhoon_a", "asiandust_a", "weatherchart_a"
+    };
+
+    // 앱이 받은 아이콘 URL을 디스크(IconUrlStore)에 보관하므로 실행마다 같은 포트 사용
+    private static final int PORT = 18080;
+
+    private static final int IMAGE_SIZE_PX = 720;
+
+    private final MockWebServer server = new MockWebServer();
+    private final Map<String, byte[]> images = new ConcurrentHashMap<>();
+
+    void start() throws IOException {
+        server.setDispatcher(new Dispatcher() {
+            @NonNull
+            @Override
+            public MockResponse dispatch(@NonNull RecordedRequest request) {
+                String path = request.getRequestUrl() != null ? request.getRequestUrl().encodedPath() : "";
+                if (MANIFEST_PATH.equals(path)) {
+                    return new MockResponse()
+                            .setHeader("Content-Type", "application/json; charset=utf-8")
+                            .setBody(buildManifest());
+                }
+                if (path.startsWith(IMAGE_PATH_PREFIX) && path.endsWith(".png")) {
+                    String argument = path.substring(IMAGE_PATH_PREFIX.length(), path.length() - ".png".length());
+                    byte[] png = images.computeIfAbsent(argument, LocalIconServer::renderImage);
+                    return new MockResponse()
+                            .setHeader("Content-Type", "image/png")
+                            .setBody(new Buffer().write(png));
+                }
+                return new MockResponse().setResponseCode(404);
+            }
+        });
+        server.start(PORT);
+    }
+
+    void shutdown() throws IOException {
+        server.shutdown();
+    }
+
+    /**
+     * 앱에 넘길 매니페스트 주소
+     */
+    String manifestUrl() {
+        return server.url(MANIFEST_PATH).toString();
+    }
+
+    private String buildManifest() {
+        StringBuilder sb = new StringBuilder("{\"files\":[");
+        for (int i = 0; i < API_OPTIONS.length; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            String argument = API_OPTIONS[i];
+            sb.append("{\"argument\":\"").append(argument)
+                    .append("\",\"url\":\"").append(server.url(IMAGE_PATH_PREFIX + argument + ".png"))
+                    .append("\",\"version\":\"1\"}");
+        }
+        return sb.append("]}").toString();
+    }
+
+    private static byte[] renderImage(String argument) {
+        Bitmap bitmap = Bitmap.createBitmap(IMAGE_SIZE_PX, IMAGE_SIZE_PX, Bitmap.Config.ARGB_8888);
+        float hue = (argument.hashCode() & 0xffff) % 360;
+        bitmap.eraseColor(Color.HSVToColor(new float[]{hue, 0.6f, 0.8f}));
+
+        // 단색이면 PNG가 지나치게 작아지므로 실제 영상처럼 디코딩 비용이 생기도록 무늬를 그림
+        Canvas canvas = new Canvas(bitmap);
+        Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        for (int i = 0; i < 24; i++) {
+            paint.setColor(Color.HSVToColor(new float[]{(hue + i * 15) % 360, 0.8f, 0.9f}));
+            canvas.drawCircle((i * 97) % IMAGE_SIZE_PX, (i * 53) % IMAGE_SIZE_PX, 40 + i * 6, paint);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        bitmap.compress(Bitmap.CompressFormat.PNG, 100, out);
+        bitmap.recycle();
+        return out.toByteArray();
+    }
+}
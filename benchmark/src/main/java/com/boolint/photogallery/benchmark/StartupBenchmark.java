@@ -0,0 +1,84 @@
+package com.boolint.photogallery.benchmark;
+
+import androidx.benchmark.macro.CompilationMode;
+import androidx.benchmark.macro.StartupMode;
+import androidx.benchmark.macro.StartupTimingMetric;
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule;
+import androidx.test.filters.LargeTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import kotlin.Unit;
+
+/**
+ * MainActivity 시작 시간 (cold / warm / hot) x 광고 시작 모드 (첫 프레임 이후 지연 / 즉시)
+ * timeToInitialDisplay와 함께 reportFullyDrawn(첫 썸네일 표시) 기준 timeToFullDisplay도 수집
+ * 같은 시작 모드의 deferAds=true/false 결과를 비교하면 광고 지연으로 줄어든 첫 프레임 시간을 확인
+ */
+@LargeTest
+@RunWith(Parameterized.class)
+public class StartupBenchmark {
+
+    private static final int ITERATIONS = 10;
+
+    @Parameterized.Parameters(name = "{0}_deferAds={1}")
+    public static Collection<Object[]> modes() {
+        List<Object[]> modes = new ArrayList<>();
+        for (StartupMode startupMode : new StartupMode[]{StartupMode.COLD, StartupMode.WARM, StartupMode.HOT}) {
+            modes.add(new Object[]{startupMode, true});
+            modes.add(new Object[]{startupMode, false});
+        }
+        return modes;
+    }
+
+    @Rule
+    public MacrobenchmarkRule benchmarkRule = new MacrobenchmarkRule();
+
+    private final StartupMode startupMode;
+    private final boolean deferAdStartup;
+    private final LocalIconServer server = new LocalIconServer();
+
+    public StartupBenchmark(StartupMode startupMode, boolean deferAdStartup) {
+        this.startupMode = startupMode;
+        this.deferAdStartup = deferAdStartup;
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    public void startup() {
+        benchmarkRule.measureRepeated(
+                BenchmarkScopes.TARGET_PACKAGE,
+                Collections.singletonList(new StartupTimingMetric()),
+                CompilationMode.DEFAULT,
+                startupMode,
+                ITERATIONS,
+                scope -> {
+                    scope.pressHome();
+                    return Unit.INSTANCE;
+                },
+                scope -> {
+                    BenchmarkScopes.startMain(scope, server, deferAdStartup);
+                    return Unit.INSTANCE;
+                });
+    }
+}
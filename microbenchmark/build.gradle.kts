@@ -0,0 +1,124 @@
+import groovy.json.JsonSlurper
+
+plugins {
+    `java-library`
+    alias(libs.plugins.jmh)
+}
+
+// JVM에서 실행 가능한 app 모듈의 순수 Java 코드만 그대로 컴파일해 측정
+// (RecyclerView/Context 등 기기 의존 코드는 제외)
+val appSources = rootProject.file("app/src/main/java")
+val appClasses = listOf(
+    "IconManifestReader",
+    "MenuItem",
+    "MenuCatalog",
+    "MenuCatalogLoader",
+    "GridSpacing",
+    "ResponsiveLayoutHelper",
+    "MenuSearchIndex",
+    "MenuFacetIndex",
+    "MenuFacetQuery",
+)
+
+sourceSets {
+    main {
+        java {
+            setSrcDirs(listOf(appSources))
+            appClasses.forEach { include("com/boolint/photogallery/$it.java") }
+        }
+    }
+}
+
+java {
+    // android-all(SDK 34)이 Java 17 바이트코드
+    sourceCompatibility = JavaVersion.VERSION_17
+    targetCompatibility = JavaVersion.VERSION_17
+}
+
+tasks.withType<JavaCompile>().configureEach {
+    options.encoding = "UTF-8"
+}
+
+dependencies {
+    // android.util.JsonReader, android.graphics.Rect 등 순수 Java 프레임워크 클래스 실제 구현
+    implementation(libs.android.all)
+}
+
+// 실행: ./gradlew :microbenchmark:jmh  (결과: build/results/jmh/results.json)
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    providers.gradleProperty("jmhInclude").orNull?.let { includes.set(listOf(it)) }
+}
+
+// CI 회귀 검사: 같은 러너에서 측정한 기준(base) 결과와 비교
+// ./gradlew :microbenchmark:jmhCompare -PjmhBaseline=base.json [-PjmhCurrent=...] [-PjmhTolerance=1.25]
+tasks.register<JmhCompareTask>("jmhCompare") {
+    baseline.set(layout.projectDirectory.file(providers.gradleProperty("jmhBaseline")))
+    current.set(
+        providers.gradleProperty("jmhCurrent")
+            .map { layout.projectDirectory.file(it) }
+            .orElse(layout.buildDirectory.file("results/jmh/results.json"))
+    )
+    tolerance.set(providers.gradleProperty("jmhTolerance").map { it.toDouble() }.orElse(1.25))
+}
+
+/**
+ * 두 JMH JSON 결과를 비교해 평균 시간이 허용 배율을 넘게 늘어난 벤치마크가 있으면 실패
+ * - 벤치마크 이름 + 파라미터 조합으로 매칭, 기준 결과에 없는 항목은 건너뜀
+ * - avgt/sample(시간 단위)만 비교 (값이 클수록 느림)
+ */
+abstract class JmhCompareTask : DefaultTask() {
+
+    @get:InputFile
+    abstract val baseline: RegularFileProperty
+
+    @get:InputFile
+    abstract val current: RegularFileProperty
+
+    @get:Input
+    abstract val tolerance: Property<Double>
+
+    @TaskAction
+    fun compare() {
+        val base = readScores(baseline.get().asFile)
+        val head = readScores(current.get().asFile)
+        val limit = tolerance.get()
+
+        val regressions = mutableListOf<String>()
+        head.forEach { (key, score) ->
+            val before = base[key] ?: return@forEach
+            val ratio = score / before
+            val line = String.format("%-70s %12.3f -> %12.3f (x%.2f)", key, before, score, ratio)
+            logger.lifecycle(line)
+            if (ratio > limit) {
+                regressions.add(line)
+            }
+        }
+
+        if (regressions.isNotEmpty()) {
+            throw GradleException(
+                "JMH regressions over x$limit:\n" + regressions.joinToString("\n")
+            )
+        }
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun readScores(file: java.io.File): Map<String, Double> {
+        val runs = JsonSlurper().parse(file) as List<Map<String, Any?>>
+        return runs
+            .filter { it["mode"] == "avgt" || it["mode"] == "sample" }
+            .associate { run ->
+                val params = (run["params"] as Map<String, Any?>?)
+                    ?.entries?.sortedBy { it.key }
+                    ?.joinToString(",", "(", ")") { "${it.key}=${it.value}" }
+                    ?: ""
+                val metric = run["primaryMetric"] as Map<String, Any?>
+                "${run["benchmark"]}$params" to (metric["score"] as Number).toDouble()
+            }
+    }
+}
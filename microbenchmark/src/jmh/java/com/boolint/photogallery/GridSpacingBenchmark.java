@@ -0,0 +1,43 @@
+package com.boolint.photogallery;
+
+import android.graphics.Rect;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GridSpacingItemDecoration.getItemOffsets 간격 계산 (한 화면 분량 아이템)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GridSpacingBenchmark {
+
+    private static final int ITEMS_PER_PASS = 60;
+    private static final int SPACING_PX = 55;
+
+    @Param({"3", "6"})
+    public int spanCount;
+
+    @Param({"true", "false"})
+    public boolean includeEdge;
+
+    private final Rect outRect = new Rect();
+
+    @Benchmark
+    public void gridOffsets(Blackhole bh) {
+        for (int position = 0; position < ITEMS_PER_PASS; position++) {
+            outRect.setEmpty();
+            GridSpacing.computeOffsets(position, spanCount, SPACING_PX, includeEdge, outRect);
+            bh.consume(outRect.left + outRect.top + outRect.right + outRect.bottom);
+        }
+    }
+}
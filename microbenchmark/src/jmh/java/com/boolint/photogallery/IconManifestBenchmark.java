@@ -0,0 +1,62 @@
+package com.boolint.photogallery;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아이콘 매니페스트 파싱 / 카탈로그 병합 (loadIconUrlsFromApiAsync, ThumbnailCacheWorker 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IconManifestBenchmark {
+
+    @Param({"21", "1000", "10000"})
+    public int entries;
+
+    private byte[] manifest;
+    private MenuCatalog catalog;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        manifest = SyntheticData.manifest(entries);
+        catalog = new MenuCatalog(SyntheticData.menuItems(entries));
+    }
+
+    /**
+     * 스트리밍 파싱만 (항목 전달 후 버림)
+     */
+    @Benchmark
+    public int parse(Blackhole bh) throws IOException {
+        return IconManifestReader.read(new ByteArrayInputStream(manifest), (argument, url, version) -> {
+            bh.consume(argument);
+            bh.consume(url);
+            bh.consume(version);
+        });
+    }
+
+    /**
+     * 파싱 + 아이콘이 적용된 새 카탈로그 스냅샷 생성 (DataManager.applyIconUrls 경로)
+     */
+    @Benchmark
+    public MenuCatalog parseAndMerge() throws IOException {
+        Map<String, String> urls = new HashMap<>();
+        Map<String, String> versions = new HashMap<>();
+        IconManifestReader.readInto(new ByteArrayInputStream(manifest), urls, versions);
+        return catalog.withIcons(urls, versions);
+    }
+}
@@ -0,0 +1,57 @@
+package com.boolint.photogallery;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카탈로그 생성 (DataManager.initialize 경로)
+ * - 청크 테이블 → MenuItem 목록
+ * - 목록 → id/apiOption/kind 인덱스 스냅샷
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MenuCatalogBenchmark {
+
+    @Param({"21", "1000", "10000"})
+    public int rows;
+
+    private String[] chunks;
+    private List<MenuItem> items;
+    private MenuCatalog catalog;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        chunks = SyntheticData.catalogChunks(rows);
+        items = MenuCatalogLoader.load(SyntheticData.COLUMNS, chunks, rows, 0);
+        catalog = new MenuCatalog(items);
+    }
+
+    @Benchmark
+    public List<MenuItem> loadTable() {
+        return MenuCatalogLoader.load(SyntheticData.COLUMNS, chunks, rows, 0);
+    }
+
+    @Benchmark
+    public MenuCatalog buildIndex() {
+        return new MenuCatalog(items);
+    }
+
+    /**
+     * 메뉴 하나 추가 (copy-on-write 재색인 비용)
+     */
+    @Benchmark
+    public MenuCatalog appendOne() {
+        return catalog.plus(items.subList(0, 1));
+    }
+}
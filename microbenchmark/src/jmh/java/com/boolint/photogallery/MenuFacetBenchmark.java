@@ -0,0 +1,52 @@
+package com.boolint.photogallery;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 속성 필터 (DataManager.getFacetIndex / getFilteredMenuList 경로)
+ * - 스냅샷 교체 후 비트셋 색인 생성
+ * - 필터 전환 한 번 (kind OR + area AND) → 목록
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MenuFacetBenchmark {
+
+    @Param({"21", "10000"})
+    public int rows;
+
+    private MenuCatalog catalog;
+    private MenuFacetIndex index;
+    private MenuFacetQuery query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        catalog = new MenuCatalog(SyntheticData.menuItems(rows));
+        index = MenuFacetIndex.build(catalog);
+        query = MenuFacetQuery.EMPTY
+                .with(MenuFacetIndex.Facet.KIND, "satellite", true)
+                .with(MenuFacetIndex.Facet.KIND, "radar", true)
+                .with(MenuFacetIndex.Facet.AREA, "ko", true);
+    }
+
+    @Benchmark
+    public MenuFacetIndex buildIndex() {
+        return MenuFacetIndex.build(catalog);
+    }
+
+    @Benchmark
+    public List<MenuItem> matchAndSelect() {
+        return catalog.select(index.match(query));
+    }
+}
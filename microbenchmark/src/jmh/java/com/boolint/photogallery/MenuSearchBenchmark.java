@@ -0,0 +1,51 @@
+package com.boolint.photogallery;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메뉴 검색 (MenuSearcher 스레드 경로)
+ * - 카탈로그 교체 시 색인 생성
+ * - 입력 한 번당 검색 (초성 / 완성형 / 영문 접두어)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MenuSearchBenchmark {
+
+    @Param({"21", "5000"})
+    public int rows;
+
+    @Param({"ㅇㅅ", "위성영", "sat", "ko 위"})
+    public String query;
+
+    private List<MenuItem> items;
+    private MenuSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        items = SyntheticData.menuItems(rows);
+        index = MenuSearchIndex.build(items);
+    }
+
+    @Benchmark
+    public MenuSearchIndex buildIndex() {
+        return MenuSearchIndex.build(items);
+    }
+
+    @Benchmark
+    public BitSet search() {
+        return index.search(query);
+    }
+}
@@ -0,0 +1,41 @@
+package com.boolint.photogallery;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResponsiveLayoutHelper 화면 분류 (폰/폴더블/태블릿, 세로/가로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponsiveLayoutBenchmark {
+
+    // {widthDp, heightDp, landscape(0/1)}
+    private static final int[][] SCREENS = {
+            {411, 891, 0}, {891, 411, 1},   // 폰
+            {360, 780, 0}, {780, 360, 1},   // 작은 폰
+            {673, 841, 0}, {841, 673, 1},   // 폴더블 펼침
+            {800, 1280, 0}, {1280, 800, 1}, // 태블릿
+    };
+
+    @Benchmark
+    public void classifyScreens(Blackhole bh) {
+        for (int[] screen : SCREENS) {
+            ResponsiveLayoutHelper helper = new ResponsiveLayoutHelper(screen[0], screen[1], screen[2] == 1);
+            bh.consume(helper.getScreenType());
+            bh.consume(helper.getGridColumns());
+            bh.consume(helper.getGridSpacing());
+            bh.consume(helper.getOptimalThumbnailSize());
+            bh.consume(helper.getItemViewCacheSize());
+            bh.consume(helper.getRecycledViewPoolSize());
+        }
+    }
+}
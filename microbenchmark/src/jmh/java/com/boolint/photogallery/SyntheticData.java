@@ -0,0 +1,103 @@
+package com.boolint.photogallery;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 합성 데이터
+ * 실제 카탈로그(menu_catalog.csv)와 같은 열 구성 / ThumbKr.jsp와 같은 매니페스트 형식
+ */
+final class SyntheticData {
+
+    static final String[] COLUMNS = {
+            "id", "actType", "title", "kind", "data0", "area0", "data1", "area1", "data2", "area2", "apiOption"
+    };
+
+    private static final String[] KINDS = {
+            "satellite", "radar", "rad+inf", "snowrain", "temperature", "typhoon", "asiandust", "weather_chart"
+    };
+
+    // 생성 태스크와 같은 청크 크기 기준 (UTF-8 60,000바이트)
+    private static final int MAX_CHUNK_BYTES = 60_000;
+
+    private SyntheticData() {
+    }
+
+    static String apiOption(int index) {
+        return "opt_" + index;
+    }
+
+    /**
+     * { "files": [ { "argument", "url", "version" } x entries ] }
+     * 실제 응답처럼 알 수 없는 필드도 섞어 skipValue 경로도 포함
+     */
+    static byte[] manifest(int entries) {
+        StringBuilder sb = new StringBuilder(entries * 120);
+        sb.append("{\"status\":\"ok\",\"files\":[");
+        for (int i = 0; i < entries; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"argument\":\"").append(apiOption(i))
+                    .append("\",\"url\":\"http://wko.boolint.com:8080/img/").append(apiOption(i))
+                    .append("_202610170000.png\",\"size\":").append(1000 + i)
+                    .append(",\"version\":\"").append(Integer.toHexString(i * 31 + 7))
+                    .append("\"}");
+        }
+        sb.append("]}");
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * MenuCatalogTable 형식 청크 (행 rows개)
+     */
+    static String[] catalogChunks(int rows) {
+        List<String> chunks = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int currentBytes = 0;
+        for (int i = 0; i < rows; i++) {
+            String row = catalogRow(i);
+            int rowBytes = row.getBytes(StandardCharsets.UTF_8).length;
+            if (current.length() > 0 && currentBytes + rowBytes + 1 > MAX_CHUNK_BYTES) {
+                chunks.add(current.toString());
+                current.setLength(0);
+                currentBytes = 0;
+            }
+            if (current.length() > 0) {
+                current.append(MenuCatalogLoader.ROW_SEPARATOR);
+                currentBytes++;
+            }
+            current.append(row);
+            currentBytes += rowBytes;
+        }
+        if (current.length() > 0) {
+            chunks.add(current.toString());
+        }
+        return chunks.toArray(new String[0]);
+    }
+
+    private static String catalogRow(int index) {
+        String[] values = {
+                "k" + (index + 1),
+                "SUB",
+                "위성영상 " + index,
+                KINDS[index % KINDS.length],
+                "ir105",
+                "ko020lc",
+                "rgbt",
+                "ko",
+                "vis_ko",
+                "",
+                apiOption(index)
+        };
+        return String.join(String.valueOf(MenuCatalogLoader.FIELD_SEPARATOR), values);
+    }
+
+    /**
+     * 행 rows개의 메뉴 목록
+     */
+    static List<MenuItem> menuItems(int rows) {
+        return MenuCatalogLoader.load(COLUMNS, catalogChunks(rows), rows, 0);
+    }
+}
@@ -21,3 +21,6 @@ dependencyResolutionManagement {
 
 rootProject.name = "PhotoGallery"
 include(":app")
+include(":baselineprofile")
+include(":benchmark")
+include(":microbenchmark")